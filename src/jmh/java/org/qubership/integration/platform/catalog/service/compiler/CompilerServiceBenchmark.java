@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.compiler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiles a library of {@code classes} generated sources, each class referencing
+ * the previous one. Compilation is expensive, so throughput is reported per minute.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class CompilerServiceBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int classes;
+
+    private CompilerService compilerService;
+    private Map<String, String> sources;
+
+    @Setup
+    public void setUp() {
+        compilerService = new CompilerService(4, 4);
+        sources = new HashMap<>();
+        for (int i = 0; i < classes; i++) {
+            String className = "benchmark.generated.Model" + i;
+            StringBuilder source = new StringBuilder()
+                    .append("package benchmark.generated;\n\n")
+                    .append("public class Model").append(i).append(" {\n")
+                    .append("    private String name;\n")
+                    .append("    private java.util.List<String> values = new java.util.ArrayList<>();\n");
+            if (i > 0) {
+                source.append("    private Model").append(i - 1).append(" previous;\n");
+            }
+            source.append("    public String getName() { return name; }\n")
+                    .append("    public void setName(String name) { this.name = name; }\n")
+                    .append("    public java.util.List<String> getValues() { return values; }\n")
+                    .append("}\n");
+            sources.put(className, source.toString());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        compilerService.destroy();
+    }
+
+    @Benchmark
+    public Map<String, byte[]> compile() throws CompilationError {
+        return compilerService.compile(sources);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.parsers.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import org.openjdk.jmh.annotations.*;
+import org.qubership.integration.platform.catalog.model.system.IntegrationSystemType;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.system.*;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.system.SystemModelRepository;
+import org.qubership.integration.platform.catalog.service.parsers.ParserUtils;
+import org.qubership.integration.platform.catalog.service.resolvers.swagger.SwaggerSchemaResolver;
+import org.qubership.integration.platform.catalog.service.schemas.SchemaProcessor;
+import org.qubership.integration.platform.catalog.service.schemas.impl.*;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Imports a generated OpenAPI 3 specification with {@code operations} operations.
+ * Persistence and version lookups are replaced by in-memory stubs, so the figures
+ * cover parsing, operation separation and schema resolution only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class SwaggerSpecificationParserBenchmark {
+    private static final String SPECIFICATION_VERSION = "1.0.0";
+
+    @Param({"10", "100", "1000", "10000"})
+    private int operations;
+
+    private SwaggerSpecificationParser parser;
+    private List<SpecificationSource> sources;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Json.mapper();
+
+        List<SchemaProcessor> schemaProcessors = new ArrayList<>(List.of(
+                new DefaultSchemaProcessor(objectMapper),
+                new ObjectSchemaProcessor(objectMapper),
+                new StringSchemaProcessor(objectMapper),
+                new UUIDSchemaProcessor(objectMapper),
+                new FileSchemaProcessor(objectMapper)
+        ));
+        schemaProcessors.add(new ArraySchemaProcessor(schemaProcessors, objectMapper));
+
+        parser = new SwaggerSpecificationParser(
+                inMemorySystemModelRepository(),
+                new SwaggerSchemaResolver(),
+                schemaProcessors,
+                objectMapper,
+                new FixedVersionParserUtils(),
+                null
+        );
+        sources = List.of(SpecificationSource.builder()
+                .name("benchmark.json")
+                .source(objectMapper.writeValueAsString(buildSpecification(objectMapper)))
+                .build());
+    }
+
+    @Benchmark
+    public SystemModel enrichSpecificationGroup() {
+        // Environment is already present, so server entries of the specification are ignored
+        IntegrationSystem system = IntegrationSystem.builder()
+                .id("benchmark-system")
+                .integrationSystemType(IntegrationSystemType.EXTERNAL)
+                .environments(new ArrayList<>(List.of(Environment.builder().name("default").build())))
+                .build();
+        SpecificationGroup group = SpecificationGroup.builder()
+                .id("benchmark-group")
+                .name("benchmark")
+                .system(system)
+                .build();
+        return parser.enrichSpecificationGroup(group, sources, Collections.emptySet(), false, message -> {});
+    }
+
+    private ObjectNode buildSpecification(ObjectMapper objectMapper) {
+        ObjectNode specification = objectMapper.createObjectNode();
+        specification.put("openapi", "3.0.1");
+        specification.putObject("info").put("title", "Benchmark").put("version", SPECIFICATION_VERSION);
+
+        ObjectNode paths = specification.putObject("paths");
+        ObjectNode schemas = specification.putObject("components").putObject("schemas");
+        for (int i = 0; i < operations; i++) {
+            String schemaName = "Resource" + i;
+            ObjectNode schema = schemas.putObject(schemaName);
+            schema.put("type", "object");
+            ObjectNode properties = schema.putObject("properties");
+            properties.putObject("id").put("type", "string").put("format", "uuid");
+            properties.putObject("tags").put("type", "array").putObject("items").put("type", "string");
+
+            ObjectNode operation = paths.putObject("/api/v1/resources" + i + "/{id}").putObject("post");
+            operation.put("operationId", "updateResource" + i);
+            ObjectNode parameter = operation.putArray("parameters").addObject();
+            parameter.put("name", "id").put("in", "path").put("required", true);
+            parameter.putObject("schema").put("type", "string");
+            operation.putObject("requestBody").putObject("content").putObject("application/json")
+                    .putObject("schema").put("$ref", "#/components/schemas/" + schemaName);
+            operation.putObject("responses").putObject("200").put("description", "OK")
+                    .putObject("content").putObject("application/json")
+                    .putObject("schema").put("$ref", "#/components/schemas/" + schemaName);
+        }
+        return specification;
+    }
+
+    private static SystemModelRepository inMemorySystemModelRepository() {
+        return (SystemModelRepository) Proxy.newProxyInstance(
+                SystemModelRepository.class.getClassLoader(),
+                new Class<?>[] {SystemModelRepository.class},
+                (proxy, method, args) -> {
+                    if ("save".equals(method.getName())) {
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static class FixedVersionParserUtils extends ParserUtils {
+        FixedVersionParserUtils() {
+            super(null, null);
+        }
+
+        @Override
+        public String defineVersionName(SpecificationGroup specificationGroup, Object specificationObject) {
+            return SPECIFICATION_VERSION;
+        }
+
+        @Override
+        public String defineVersion(SpecificationGroup specificationGroup, Object specificationObject) {
+            return SPECIFICATION_VERSION;
+        }
+    }
+}
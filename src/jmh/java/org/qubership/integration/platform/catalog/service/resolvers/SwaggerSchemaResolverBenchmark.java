@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.resolvers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+import org.qubership.integration.platform.catalog.service.resolvers.swagger.SwaggerSchemaResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves a root schema whose properties reference {@code schemas} component schemas,
+ * each of them referencing a shared nested schema. Exercises the {@link CommonSchemaResolver}
+ * reference walk through its Swagger implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SwaggerSchemaResolverBenchmark {
+    private static final String ROOT_SCHEMA_REF = "#/components/schemas/Root";
+
+    @Param({"10", "100", "1000", "10000"})
+    private int schemas;
+
+    private SwaggerSchemaResolver resolver;
+    private JsonNode componentsNode;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        resolver = new SwaggerSchemaResolver();
+
+        ObjectNode components = objectMapper.createObjectNode();
+        ObjectNode schemasNode = components.putObject("schemas");
+
+        ObjectNode shared = schemasNode.putObject("Shared");
+        shared.put("type", "object");
+        shared.putObject("properties").putObject("code").put("type", "string");
+
+        ObjectNode root = schemasNode.putObject("Root");
+        root.put("type", "object");
+        ObjectNode rootProperties = root.putObject("properties");
+        for (int i = 0; i < schemas; i++) {
+            String schemaName = "Schema" + i;
+            rootProperties.putObject("field" + i).put("$ref", "#/components/schemas/" + schemaName);
+
+            ObjectNode schema = schemasNode.putObject(schemaName);
+            schema.put("type", "object");
+            ObjectNode properties = schema.putObject("properties");
+            properties.putObject("id").put("type", "string");
+            properties.putObject("shared").put("$ref", "#/components/schemas/Shared");
+        }
+        componentsNode = components;
+    }
+
+    @Benchmark
+    public String resolveRef() {
+        return resolver.resolveRef(ROOT_SCHEMA_REF, componentsNode);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChainUtilsBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int elements;
+
+    private Chain chain;
+
+    @Setup
+    public void setUp() {
+        chain = new Chain("benchmark-chain");
+        chain.setName("Benchmark chain");
+        for (int i = 0; i < elements; i++) {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("uri", "/api/v1/resource" + i);
+            properties.put("httpMethodRestrict", "GET,POST");
+            properties.put("index", i);
+            ChainElement element = ChainElement.builder()
+                    .id("element-" + i)
+                    .name("Element " + i)
+                    .type(i % 2 == 0 ? "http-trigger" : "script")
+                    .properties(properties)
+                    .chain(chain)
+                    .build();
+            chain.addElement(element);
+        }
+    }
+
+    @Benchmark
+    public Chain getChainCopy() {
+        return ChainUtils.getChainCopy(chain);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.util.paths;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks one probe path against a registry of {@code paths} trigger paths,
+ * the same pattern used when validating a new HTTP trigger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathIntersectionCheckerBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int paths;
+
+    private PathIntersectionChecker checker;
+    private List<String> registeredPaths;
+    private String probePath;
+
+    @Setup
+    public void setUp() {
+        checker = new PathIntersectionChecker();
+        registeredPaths = new ArrayList<>(paths);
+        for (int i = 0; i < paths; i++) {
+            registeredPaths.add(switch (i % 3) {
+                case 0 -> "/api/v1/service" + i + "/items";
+                case 1 -> "/api/v1/service" + i + "/items/{id}";
+                default -> "/api/v1/service" + i + "/items/{id}/details/*";
+            });
+        }
+        probePath = "/api/v1/service" + (paths / 2) + "/items/{itemId}";
+    }
+
+    @Benchmark
+    public void intersectsAll(Blackhole blackhole) {
+        for (String path : registeredPaths) {
+            blackhole.consume(checker.intersects(probePath, path));
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.graphql_java_generator.plugin.CodeTemplate;
 import com.graphql_java_generator.plugin.conf.*;
 import org.qubership.integration.platform.catalog.service.graphql.codegen.GraphqlCodeDocumentParser;
 import org.qubership.integration.platform.catalog.service.graphql.codegen.GraphqlRuntimePojoGenerator;
+import org.qubership.integration.platform.catalog.service.graphql.codegen.GraphqlTemplateEngine;
 
 import graphql.parser.Parser;
 import graphql.parser.ParserOptions;
@@ -83,15 +84,21 @@ public class GraphQLCodegenConfiguration {
         return configuration -> new GraphqlCodeDocumentParser(parser, parserOptions, configuration);
     }
 
+    @Bean
+    public GraphqlTemplateEngine graphqlTemplateEngine() {
+        return new GraphqlTemplateEngine();
+    }
+
     @Bean
     public Function<String, GraphqlRuntimePojoGenerator> graphqlPojoGeneratorFactory(
             Function<String, GenerateCodeCommonConfiguration> codeConfigurationFactory,
-            Function<CommonConfiguration, GraphqlCodeDocumentParser> graphqlCodeDocumentParserFactory
+            Function<CommonConfiguration, GraphqlCodeDocumentParser> graphqlCodeDocumentParserFactory,
+            GraphqlTemplateEngine graphqlTemplateEngine
     ) {
         return packageName -> {
             GenerateCodeCommonConfiguration configuration = codeConfigurationFactory.apply(packageName);
             GraphqlCodeDocumentParser parser = graphqlCodeDocumentParserFactory.apply(configuration);
-            return new GraphqlRuntimePojoGenerator(parser, configuration);
+            return new GraphqlRuntimePojoGenerator(parser, configuration, graphqlTemplateEngine);
         };
     }
 
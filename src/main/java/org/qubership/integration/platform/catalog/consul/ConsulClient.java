@@ -17,7 +17,7 @@
 package org.qubership.integration.platform.catalog.consul;
 
 
-import com.google.common.collect.Lists;
+import jakarta.annotation.PreDestroy;
 import org.qubership.integration.platform.catalog.consul.exception.ConsulException;
 import org.qubership.integration.platform.catalog.consul.exception.KVNotFoundException;
 import org.qubership.integration.platform.catalog.consul.exception.TxnConflictException;
@@ -25,6 +25,7 @@ import org.qubership.integration.platform.catalog.model.consul.KeyResponse;
 import org.qubership.integration.platform.catalog.model.consul.txn.request.TxnKVRequest;
 import org.qubership.integration.platform.catalog.model.consul.txn.request.TxnRequest;
 import org.qubership.integration.platform.catalog.model.consul.txn.request.TxnVerb;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnBatchResponse;
 import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnResponse;
 
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -42,6 +44,8 @@ import org.springframework.web.client.RestTemplate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 @Slf4j
@@ -61,12 +65,25 @@ public class ConsulClient {
     private String consulToken;
 
     private final RestTemplate restTemplate;
+    private final ExecutorService txnExecutor;
+    private final ConsulTxnDispatcher txnDispatcher;
 
     @Autowired
     public ConsulClient(@Qualifier("restTemplateMS") RestTemplate restTemplate,
-                        @Value("${consul.url}") String consulUrl) {
+                        @Value("${consul.url}") String consulUrl,
+                        @Value("${consul.txn.parallelism:4}") int txnParallelism,
+                        @Value("${consul.txn.max-retries:3}") int txnMaxRetries,
+                        @Value("${consul.txn.retry-backoff-ms:200}") long txnRetryBackoffMs) {
         this.restTemplate = restTemplate;
         this.consulUrl = StringUtils.strip(consulUrl, "/");
+        this.txnExecutor = Executors.newFixedThreadPool(Math.max(1, txnParallelism),
+                new CustomizableThreadFactory("consul-txn-"));
+        this.txnDispatcher = new ConsulTxnDispatcher(this::doTxnRequest, txnExecutor, txnMaxRetries, txnRetryBackoffMs);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        txnExecutor.shutdownNow();
     }
 
     public List<KeyResponse> getKV(String key, boolean recurse) throws KVNotFoundException {
@@ -127,28 +144,48 @@ public class ConsulClient {
      * @param map key/value mapping, key - path without a leading slash (e.g. 'config/test/key')
      */
     public void createOrUpdateKVsInTransaction(Map<String, String> map) {
-        doTxnBatchedRequest(
+        createOrUpdateKVsInTransaction(map, Collections.emptyMap());
+    }
+
+    /**
+     * Keys with an expected ModifyIndex are written only if they were not modified since,
+     * index 0 means the key must not exist.
+     *
+     * @param map key/value mapping, key - path without a leading slash (e.g. 'config/test/key')
+     * @param modifyIndexes key/expected ModifyIndex mapping
+     * @throws TxnConflictException if any key was modified concurrently
+     */
+    public void createOrUpdateKVsInTransaction(Map<String, String> map, Map<String, Long> modifyIndexes) {
+        TxnBatchResponse response = executeTxn(
                 map.entrySet().stream()
-                        .map(entry -> new TxnRequest(
-                                TxnKVRequest.builder()
-                                        .verb(TxnVerb.SET)
-                                        .key(entry.getKey())
-                                        .value(entry.getValue())
-                                        .build()))
+                        .map(entry -> {
+                            Long index = modifyIndexes.get(entry.getKey());
+                            return new TxnRequest(
+                                    TxnKVRequest.builder()
+                                            .verb(index == null ? TxnVerb.SET : TxnVerb.CAS)
+                                            .key(entry.getKey())
+                                            .value(entry.getValue())
+                                            .index(index)
+                                            .build());
+                        })
                         .toList()
         );
-    }
-
-    private TxnResponse doTxnBatchedRequest(List<TxnRequest> request) throws ConsulException {
-        if (request.size() <= MAX_TXN_SIZE) {
-            return doTxnRequest(request);
+        if (!response.isSuccessful()) {
+            Throwable cause = response.getFailures().isEmpty() ? null : response.getFailures().get(0);
+            String message = "Consul txn request failed for " + response.getErrors().size() + " operation(s)";
+            if (response.getFailures().stream().anyMatch(TxnConflictException.class::isInstance)) {
+                throw new TxnConflictException(message, cause);
+            }
+            throw new ConsulException(message, cause);
         }
+    }
 
-        TxnResponse result = new TxnResponse();
-        for (List<TxnRequest> txnRequests : Lists.partition(request, MAX_TXN_SIZE)) {
-            result.merge(doTxnRequest(txnRequests));
-        }
-        return result;
+    /**
+     * Executes operations split into {@link ConsulClient#MAX_TXN_SIZE} txn requests sent concurrently.
+     * Each request is atomic, the whole operation list is not.
+     */
+    public TxnBatchResponse executeTxn(List<TxnRequest> request) {
+        return txnDispatcher.dispatch(request);
     }
 
 
@@ -173,7 +210,8 @@ public class ConsulClient {
         } catch (HttpClientErrorException hcee) {
             if (hcee.getStatusCode() == HttpStatus.CONFLICT) {
                 log.error("Consul txn request failed with code 409 conflict: {}", hcee.getMessage());
-                throw new TxnConflictException("Consul txn request failed with code 409 conflict", hcee);
+                throw new TxnConflictException("Consul txn request failed with code 409 conflict", hcee,
+                        readConflictResponse(hcee));
             } else {
                 log.error("Consul txn request failed with http error", hcee);
                 throw new ConsulException("Consul txn request failed with http error", hcee);
@@ -215,6 +253,15 @@ public class ConsulClient {
         }
     }
 
+    private static TxnResponse readConflictResponse(HttpClientErrorException exception) {
+        try {
+            return exception.getResponseBodyAs(TxnResponse.class);
+        } catch (Exception e) {
+            log.debug("Failed to read consul txn conflict response: {}", e.getMessage());
+            return null;
+        }
+    }
+
     private HttpHeaders buildCommonHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
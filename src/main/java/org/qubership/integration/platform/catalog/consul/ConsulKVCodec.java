@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.consul.exception.ConsulException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Encodes values stored in Consul KV as compact JSON.
+ * <p>
+ * Large values can optionally be stored gzip-compressed and base64-encoded with the {@link #GZIP_FORMAT_MARKER}
+ * prefix. Values without the marker are read as plain JSON, so values written before remain readable.
+ * Compression must only be enabled when every reader of the keys, engines included, understands the marker.
+ */
+@Slf4j
+@Component
+public class ConsulKVCodec {
+    public static final String GZIP_FORMAT_MARKER = "~gzip:";
+
+    private static final String METRIC_PREFIX = "qip.consul.kv.";
+
+    private final ObjectMapper objectMapper;
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+
+    private final DistributionSummary rawSize;
+    private final DistributionSummary jsonSize;
+    private final DistributionSummary compressedSize;
+
+    @Autowired
+    public ConsulKVCodec(
+            ObjectMapper jsonMapper,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${consul.codec.compression.enabled:false}") boolean compressionEnabled,
+            @Value("${consul.codec.compression.threshold-bytes:4096}") int compressionThreshold
+    ) {
+        this(jsonMapper, meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry),
+                compressionEnabled, compressionThreshold);
+    }
+
+    ConsulKVCodec(ObjectMapper jsonMapper, MeterRegistry meterRegistry,
+                  boolean compressionEnabled, int compressionThreshold) {
+        // The primary mapper indents output
+        this.objectMapper = jsonMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+
+        this.rawSize = DistributionSummary.builder(METRIC_PREFIX + "value.raw.size")
+                .description("Size of serialized Consul KV values before compression")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.jsonSize = encodedSizeSummary(meterRegistry, "json");
+        this.compressedSize = encodedSizeSummary(meterRegistry, "gzip");
+    }
+
+    public String encode(Object value) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new ConsulException("Failed to serialize Consul KV value", e);
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        rawSize.record(bytes.length);
+
+        if (compressionEnabled && bytes.length >= compressionThreshold) {
+            String compressed = GZIP_FORMAT_MARKER + Base64.getEncoder().encodeToString(gzip(bytes));
+            // Base64 adds a third, small values may not shrink
+            if (compressed.length() < bytes.length) {
+                compressedSize.record(compressed.length());
+                return compressed;
+            }
+        }
+        jsonSize.record(bytes.length);
+        return json;
+    }
+
+    /**
+     * @param value stored value, base64-decoded as returned by Consul
+     * @return JSON of the value
+     */
+    public String decode(String value) {
+        if (isNull(value) || !value.startsWith(GZIP_FORMAT_MARKER)) {
+            return value;
+        }
+        byte[] compressed = Base64.getDecoder().decode(value.substring(GZIP_FORMAT_MARKER.length()));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ConsulException("Failed to decompress Consul KV value", e);
+        }
+    }
+
+    public <T> T decode(String value, Class<T> type) throws JsonProcessingException {
+        String json = decode(value);
+        return isNull(json) ? null : objectMapper.readValue(json, type);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new ConsulException("Failed to compress Consul KV value", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static DistributionSummary encodedSizeSummary(MeterRegistry meterRegistry, String format) {
+        return DistributionSummary.builder(METRIC_PREFIX + "value.encoded.size")
+                .description("Size of Consul KV values as stored")
+                .baseUnit("bytes")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVChange;
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVChangeType;
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVDelta;
+import org.qubership.integration.platform.catalog.model.consul.KeyResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Decodes successive responses of a recursive Consul KV read into change events.
+ * <p>
+ * The decoder remembers the {@code ModifyIndex} and the hash of the raw value of every key,
+ * only values of added or modified keys are parsed. Keys absent from a response are reported as removed.
+ */
+@Slf4j
+public class ConsulKVDeltaDecoder<T> {
+    private static final HashFunction VALUE_HASH = Hashing.murmur3_128();
+
+    @FunctionalInterface
+    public interface ValueParser<T> {
+        /**
+         * @return parsed value, empty to treat the key as absent
+         */
+        T parse(String value) throws Exception;
+    }
+
+    private final Function<String, String> idExtractor;
+    private final ValueParser<T> parser;
+
+    // Sorted by id as Consul sorts keys
+    private final Map<String, Entry<T>> entries = new TreeMap<>();
+    private Map<String, T> view = Collections.emptyMap();
+    private boolean decoded;
+
+    /**
+     * @param idExtractor maps a key to the id of its value, returns empty for keys to skip
+     */
+    public ConsulKVDeltaDecoder(Function<String, String> idExtractor, ValueParser<T> parser) {
+        this.idExtractor = idExtractor;
+        this.parser = parser;
+    }
+
+    public synchronized ConsulKVDelta<T> decode(List<KeyResponse> responses) {
+        List<ConsulKVChange<T>> changes = new ArrayList<>();
+        Set<String> failedIds = new HashSet<>();
+        Set<String> presentIds = new HashSet<>();
+
+        for (KeyResponse response : responses) {
+            String id = idExtractor.apply(response.getKey());
+            if (isNull(id)) {
+                continue;
+            }
+            presentIds.add(id);
+
+            Entry<T> entry = entries.get(id);
+            if (nonNull(entry) && response.getModifyIndex() != 0 && entry.modifyIndex == response.getModifyIndex()) {
+                continue;
+            }
+            HashCode hash = hash(response.getValue());
+            if (nonNull(entry) && Objects.equals(entry.hash, hash)) {
+                entry.modifyIndex = response.getModifyIndex();
+                continue;
+            }
+
+            T value;
+            try {
+                String decodedValue = response.getDecodedValue();
+                value = isNull(decodedValue) ? null : parser.parse(decodedValue);
+            } catch (Exception e) {
+                log.warn("Failed to parse Consul value of key {}: {}", response.getKey(), e.getMessage());
+                failedIds.add(id);
+                continue;
+            }
+
+            if (isNull(value)) {
+                presentIds.remove(id);
+            } else {
+                entries.put(id, new Entry<>(response.getModifyIndex(), hash, value));
+                changes.add(new ConsulKVChange<>(isNull(entry) ? ConsulKVChangeType.ADDED : ConsulKVChangeType.UPDATED,
+                        id, value, isNull(entry) ? null : entry.value));
+            }
+        }
+
+        Iterator<Map.Entry<String, Entry<T>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry<T>> entry = iterator.next();
+            String id = entry.getKey();
+            if (!presentIds.contains(id)) {
+                // Read the entry before removal, TreeMap reuses removed nodes
+                T previousValue = entry.getValue().value;
+                iterator.remove();
+                changes.add(new ConsulKVChange<>(ConsulKVChangeType.REMOVED, id, null, previousValue));
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            Map<String, T> newView = new LinkedHashMap<>();
+            entries.forEach((id, entry) -> newView.put(id, entry.value));
+            view = Collections.unmodifiableMap(newView);
+        }
+        boolean initial = !decoded;
+        decoded = true;
+        return new ConsulKVDelta<>(initial, changes, view, failedIds);
+    }
+
+    private static HashCode hash(String rawValue) {
+        return isNull(rawValue) ? null : VALUE_HASH.hashString(rawValue, StandardCharsets.UTF_8);
+    }
+
+    private static class Entry<T> {
+        private long modifyIndex;
+        private final HashCode hash;
+        private final T value;
+
+        Entry(long modifyIndex, HashCode hash, T value) {
+            this.modifyIndex = modifyIndex;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+}
@@ -17,14 +17,17 @@
 package org.qubership.integration.platform.catalog.consul;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.qubership.integration.platform.catalog.consul.exception.KVNotFoundException;
 import org.qubership.integration.platform.catalog.consul.exception.RuntimePropertiesException;
 import org.qubership.integration.platform.catalog.model.compiledlibrary.CompiledLibraryUpdate;
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVDelta;
+import org.qubership.integration.platform.catalog.model.consul.ConsulStateSnapshot;
 import org.qubership.integration.platform.catalog.model.consul.KeyResponse;
 import org.qubership.integration.platform.catalog.model.deployment.engine.EngineState;
 import org.qubership.integration.platform.catalog.model.deployment.properties.DeploymentRuntimeProperties;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -35,8 +38,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 @Slf4j
 @Component
 public class ConsulService {
@@ -68,19 +77,61 @@ public class ConsulService {
     @Value("${consul.keys.chains}")
     private String keyChains;
 
-    private long chainsRuntimePropertiesPreviousIndex = 0;
-    private long chainsRuntimePropertiesLastIndex = 0;
-    private long deploymentsStateLastIndex = 0;
+    @Value("${consul.mirror.enabled:false}")
+    private boolean mirrorEnabled;
+
+    @Value("${consul.mirror.max-staleness-ms:30000}")
+    private long mirrorMaxStalenessMs;
 
-    private long enginesStateLastIndex = 0;
+    // <previous index, last index>
+    private final AtomicReference<Pair<Long, Long>> chainsRuntimePropertiesIndexes = new AtomicReference<>(Pair.of(0L, 0L));
+    private final AtomicLong deploymentsStateLastIndex = new AtomicLong();
+    private final AtomicLong enginesStateLastIndex = new AtomicLong();
 
     private final ConsulClient client;
-    private final ObjectMapper objectMapper;
+    private final ConsulWatchEngine watchEngine;
+    private final ConsulKVCodec codec;
+
+    private final ConsulKVDeltaDecoder<EngineState> enginesStateDecoder;
+    private final ConsulKVDeltaDecoder<DeploymentRuntimeProperties> chainsRuntimeConfigDecoder;
+
+    private ConsulStateMirror<EngineState> enginesStateMirror;
+    private ConsulStateMirror<DeploymentRuntimeProperties> chainsRuntimeConfigMirror;
 
     @Autowired
-    public ConsulService(ObjectMapper jsonMapper, ConsulClient client) {
+    public ConsulService(ConsulClient client, ConsulWatchEngine watchEngine, ConsulKVCodec codec) {
         this.client = client;
-        this.objectMapper = jsonMapper;
+        this.watchEngine = watchEngine;
+        this.codec = codec;
+        this.enginesStateDecoder = createEnginesStateDecoder();
+        this.chainsRuntimeConfigDecoder = createChainsRuntimeConfigDecoder();
+    }
+
+    @PostConstruct
+    public void startMirror() {
+        if (!mirrorEnabled) {
+            return;
+        }
+        long maxResponseIntervalMs = watchEngine.getMaxResponseIntervalMs();
+        if (mirrorMaxStalenessMs <= maxResponseIntervalMs) {
+            throw new IllegalStateException("consul.mirror.max-staleness-ms (" + mirrorMaxStalenessMs
+                    + ") must exceed the longest blocking query wait with jitter (" + maxResponseIntervalMs
+                    + " ms), otherwise the mirror is always stale");
+        }
+        enginesStateMirror = new ConsulStateMirror<>(mirrorMaxStalenessMs);
+        enginesStateMirror.start(this::watchEnginesStateChanges);
+        chainsRuntimeConfigMirror = new ConsulStateMirror<>(mirrorMaxStalenessMs);
+        chainsRuntimeConfigMirror.start(this::watchChainRuntimeConfigChanges);
+    }
+
+    @PreDestroy
+    public void stopMirror() {
+        if (nonNull(enginesStateMirror)) {
+            enginesStateMirror.stop();
+        }
+        if (nonNull(chainsRuntimeConfigMirror)) {
+            chainsRuntimeConfigMirror.stop();
+        }
     }
 
 
@@ -90,18 +141,26 @@ public class ConsulService {
      */
     public void updateDeploymentsTimestamp() {
         log.debug("Update deployments modification timestamp");
-        client.createOrUpdateKV(keyPrefix + keyEngineConfigRoot + keyDeploymentsUpdate, new Date().getTime());
+        client.createOrUpdateKV(keyPrefix + keyEngineConfigRoot + keyDeploymentsUpdate, codec.encode(new Date().getTime()));
     }
 
     /**
      * All exceptions will be muted
      */
     public List<EngineState> getEnginesStateSafe() {
+        ConsulStateSnapshot<EngineState> snapshot = getEnginesStateSnapshot();
+        if (nonNull(snapshot)) {
+            return new ArrayList<>(snapshot.getValues().values());
+        }
         try {
             Pair<Long, List<KeyResponse>> pair =
                     client.waitForKVChanges(keyPrefix + keyEngineConfigRoot + keyEnginesState, true, 0, "0s");
 
-            return parseEnginesReports(pair.getRight());
+            // Same keys as the mirror
+            return parseEnginesReports(pair.getRight().stream()
+                    .filter(keyResponse -> filterL1NonEmptyPaths(keyPrefix + keyEngineConfigRoot + keyEnginesState,
+                            keyResponse.getKey()))
+                    .toList());
         } catch (Exception e) {
             log.error("Failed to get engines state: {}", e.getMessage());
             return Collections.emptyList();
@@ -111,36 +170,60 @@ public class ConsulService {
     public Pair<Boolean, List<EngineState>> waitForEnginesStateUpdate() throws KVNotFoundException {
         final String keyPrefix = this.keyPrefix + keyEngineConfigRoot + keyEnginesState;
 
+        long index = enginesStateLastIndex.get();
         Pair<Long, List<KeyResponse>> pair =
-                client.waitForKVChanges(keyPrefix, true, enginesStateLastIndex, WAIT_TIMEOUT_STRING);
-        boolean changesDetected = pair.getLeft() != enginesStateLastIndex;
-        enginesStateLastIndex = pair.getLeft();
+                client.waitForKVChanges(keyPrefix, true, index, WAIT_TIMEOUT_STRING);
+        boolean changesDetected = advanceIndex(enginesStateLastIndex, index, pair.getLeft());
 
-        return Pair.of(changesDetected,
-                parseEnginesReports(
-                        pair.getRight().stream()
-                                .filter(keyResponse -> filterL1NonEmptyPaths(keyPrefix, keyResponse.getKey()))
-                                .toList()));
+        ConsulKVDelta<EngineState> delta = enginesStateDecoder.decode(pair.getRight());
+        checkEnginesReports(delta);
+        return Pair.of(changesDetected, new ArrayList<>(delta.getView().values()));
+    }
+
+    /**
+     * Watches engines state without blocking the calling thread.
+     * The listener is called with the current state first, then on every change.
+     */
+    public ConsulWatch watchEnginesState(Consumer<List<EngineState>> listener) {
+        return watchEnginesStateChanges(delta -> {
+            checkEnginesReports(delta);
+            listener.accept(new ArrayList<>(delta.getView().values()));
+        });
+    }
+
+    /**
+     * Watches engines state changes, engine reports are identified by their keys.
+     * Only added or modified reports are deserialized.
+     */
+    public ConsulWatch watchEnginesStateChanges(Consumer<ConsulKVDelta<EngineState>> listener) {
+        return watchDelta(keyPrefix + keyEngineConfigRoot + keyEnginesState, createEnginesStateDecoder(), listener);
     }
 
     // return <index, timestamp>
     public Pair<Boolean, Long> waitForDeploymentsUpdate() throws KVNotFoundException {
+        long index = deploymentsStateLastIndex.get();
         Pair<Long, List<KeyResponse>> pair =
                 client.waitForKVChanges(keyPrefix + keyEngineConfigRoot + keyDeploymentsUpdate,
-                        false, deploymentsStateLastIndex, WAIT_TIMEOUT_STRING);
-        boolean changesDetected = pair.getLeft() != deploymentsStateLastIndex;
-        deploymentsStateLastIndex = pair.getLeft();
+                        false, index, WAIT_TIMEOUT_STRING);
+        boolean changesDetected = advanceIndex(deploymentsStateLastIndex, index, pair.getLeft());
 
-        return Pair.of(changesDetected, parseDeploymentsUpdate(pair));
+        return Pair.of(changesDetected, parseDeploymentsUpdate(pair.getRight()));
+    }
+
+    /**
+     * Watches deployments update timestamp without blocking the calling thread.
+     */
+    public ConsulWatch watchDeploymentsUpdate(Consumer<Long> listener) {
+        return watchEngine.watch(keyPrefix + keyEngineConfigRoot + keyDeploymentsUpdate, false,
+                (index, values) -> listener.accept(parseDeploymentsUpdate(values)));
     }
 
-    private Long parseDeploymentsUpdate(Pair<Long, List<KeyResponse>> pair) {
-        List<KeyResponse> response = pair.getRight();
+    private Long parseDeploymentsUpdate(List<KeyResponse> response) {
         switch (response.size()) {
             case 0:
                 return 0L;
             case 1:
-                String value = response.get(0).getDecodedValue();
+                String value = codec.decode(response.get(0).getDecodedValue());
                 return value == null ? 0L : Long.parseLong(value);
         }
         throw new RuntimeException("Failed to parse response, target key in consul has invalid format/size: " + response);
@@ -148,7 +231,7 @@ public class ConsulService {
 
     public void updateLibraries(List<CompiledLibraryUpdate> libs) {
         log.debug("Update deployments modification timestamp");
-        client.createOrUpdateKV(keyPrefix + keyEngineConfigRoot + keyLibrariesUpdate, libs);
+        client.createOrUpdateKV(keyPrefix + keyEngineConfigRoot + keyLibrariesUpdate, codec.encode(libs));
     }
 
     public void deleteChainRuntimeConfig(String chainId) {
@@ -156,20 +239,14 @@ public class ConsulService {
     }
 
     public void updateChainRuntimeConfig(String chainId, DeploymentRuntimeProperties props) {
-        client.createOrUpdateKV(buildChainRuntimeConfigKey(chainId), props);
+        client.createOrUpdateKV(buildChainRuntimeConfigKey(chainId), codec.encode(props));
     }
 
     public void updateChainsRuntimeConfig(Map<String, DeploymentRuntimeProperties> propsMapping) {
         client.createOrUpdateKVsInTransaction(propsMapping.entrySet().stream()
                 .collect(Collectors.toMap(
                         entry -> buildChainRuntimeConfigKeyForTxn(entry.getKey()),
-                        entry -> {
-                            try {
-                                return objectMapper.writeValueAsString(entry.getValue());
-                            } catch (JsonProcessingException e) {
-                                throw new RuntimeException(e);
-                            }
-                        })));
+                        entry -> codec.encode(entry.getValue()))));
     }
 
     public boolean chainsRuntimeConfigurationKvExists() {
@@ -189,6 +266,11 @@ public class ConsulService {
      * @return [chainId, properties] map
      */
     public Map<String, DeploymentRuntimeProperties> getChainRuntimeConfig() throws KVNotFoundException {
+        ConsulStateSnapshot<DeploymentRuntimeProperties> snapshot = getChainRuntimeConfigSnapshot();
+        // An absent prefix is reported with an exception, so it is checked in Consul
+        if (nonNull(snapshot) && !snapshot.getValues().isEmpty()) {
+            return new HashMap<>(snapshot.getValues());
+        }
         List<KeyResponse> response =
                 client.getKV(keyPrefix + keyEngineConfigRoot + keyRuntimeConfigurations + keyChains,
                         false);
@@ -196,23 +278,115 @@ public class ConsulService {
         return parseChainsRuntimeConfig(response);
     }
 
+    /**
+     * Engines state from the local mirror, enabled with 'consul.mirror.enabled'.
+     *
+     * @return engine reports by key, empty if the mirror is disabled, not loaded yet or stale
+     */
+    public @Nullable ConsulStateSnapshot<EngineState> getEnginesStateSnapshot() {
+        return isNull(enginesStateMirror) ? null : enginesStateMirror.getSnapshot();
+    }
+
+    /**
+     * Chains runtime configuration from the local mirror, enabled with 'consul.mirror.enabled'.
+     *
+     * @return properties by chain id, empty if the mirror is disabled, not loaded yet or stale
+     */
+    public @Nullable ConsulStateSnapshot<DeploymentRuntimeProperties> getChainRuntimeConfigSnapshot() {
+        return isNull(chainsRuntimeConfigMirror) ? null : chainsRuntimeConfigMirror.getSnapshot();
+    }
+
     /**
      * @return [changes_detected, [chainId, properties]] map
      */
     public Pair<Boolean, Map<String, DeploymentRuntimeProperties>> waitForChainRuntimeConfig() throws KVNotFoundException {
+        long index = chainsRuntimePropertiesIndexes.get().getRight();
         Pair<Long, List<KeyResponse>> pair =
                 client.waitForKVChanges(keyPrefix + keyEngineConfigRoot + keyRuntimeConfigurations + keyChains,
-                        false, chainsRuntimePropertiesLastIndex, WAIT_TIMEOUT_STRING);
+                        false, index, WAIT_TIMEOUT_STRING);
+
+        long responseIndex = pair.getLeft();
+        boolean changesDetected = responseIndex != index;
+        long nextIndex = responseIndex < index ? 0 : responseIndex;
+        chainsRuntimePropertiesIndexes.updateAndGet(indexes ->
+                indexes.getRight() == index ? Pair.of(index, nextIndex) : indexes);
+
+        ConsulKVDelta<DeploymentRuntimeProperties> delta = chainsRuntimeConfigDecoder.decode(pair.getRight());
+        checkChainsRuntimeConfig(delta);
+        return Pair.of(changesDetected, new HashMap<>(delta.getView()));
+    }
+
+    /**
+     * Watches chains runtime configuration without blocking the calling thread.
+     * Values that fail to deserialize are reported through {@link ConsulWatchListener#onError}.
+     */
+    public ConsulWatch watchChainRuntimeConfig(Consumer<Map<String, DeploymentRuntimeProperties>> listener) {
+        return watchChainRuntimeConfigChanges(delta -> {
+            checkChainsRuntimeConfig(delta);
+            listener.accept(delta.getView());
+        });
+    }
+
+    /**
+     * Watches chains runtime configuration changes, identified by chain id.
+     * Only added or modified configurations are deserialized.
+     */
+    public ConsulWatch watchChainRuntimeConfigChanges(Consumer<ConsulKVDelta<DeploymentRuntimeProperties>> listener) {
+        return watchDelta(keyPrefix + keyEngineConfigRoot + keyRuntimeConfigurations + keyChains,
+                createChainsRuntimeConfigDecoder(), listener);
+    }
+
+    /**
+     * Calls the listener with the first delta and then only with deltas that have changes or failures,
+     * updates of other keys under the prefix are skipped.
+     */
+    private <T> ConsulWatch watchDelta(String key, ConsulKVDeltaDecoder<T> decoder, Consumer<ConsulKVDelta<T>> listener) {
+        return watchEngine.watch(key, true, (index, values) -> {
+            ConsulKVDelta<T> delta = decoder.decode(values);
+            if (delta.isInitial() || delta.hasChanges() || !delta.getFailedIds().isEmpty()) {
+                listener.accept(delta);
+            }
+        });
+    }
+
+    private ConsulKVDeltaDecoder<EngineState> createEnginesStateDecoder() {
+        return new ConsulKVDeltaDecoder<>(
+                key -> filterL1NonEmptyPaths(keyPrefix + keyEngineConfigRoot + keyEnginesState, key) ? key : null,
+                value -> codec.decode(value, EngineState.class));
+    }
+
+    private ConsulKVDeltaDecoder<DeploymentRuntimeProperties> createChainsRuntimeConfigDecoder() {
+        return new ConsulKVDeltaDecoder<>(
+                this::parseChainId,
+                value -> codec.decode(value, DeploymentRuntimeProperties.class));
+    }
 
-        boolean changesDetected = pair.getLeft() != chainsRuntimePropertiesLastIndex;
-        chainsRuntimePropertiesPreviousIndex = chainsRuntimePropertiesLastIndex;
-        chainsRuntimePropertiesLastIndex = pair.getLeft();
+    private static void checkEnginesReports(ConsulKVDelta<EngineState> delta) {
+        if (!delta.getFailedIds().isEmpty()) {
+            throw new RuntimeException("Failed to deserialize engines reports: " + delta.getFailedIds());
+        }
+    }
 
-        return Pair.of(changesDetected, parseChainsRuntimeConfig(pair.getRight()));
+    private static void checkChainsRuntimeConfig(ConsulKVDelta<DeploymentRuntimeProperties> delta) {
+        if (!delta.getFailedIds().isEmpty()) {
+            throw new RuntimePropertiesException("Failed to deserialize consul response"
+                    + " for one or more chains");
+        }
     }
 
     public void rollbackChainsRuntimeConfigLastIndex() {
-        chainsRuntimePropertiesLastIndex = chainsRuntimePropertiesPreviousIndex;
+        chainsRuntimePropertiesIndexes.updateAndGet(indexes -> Pair.of(indexes.getLeft(), indexes.getLeft()));
+    }
+
+    /**
+     * Moves the index forward unless another caller did it meanwhile.
+     * An index going backwards is reset to 0, so the next request returns immediately.
+     *
+     * @return whether the response index differs from the requested one
+     */
+    private static boolean advanceIndex(AtomicLong lastIndex, long requestIndex, long responseIndex) {
+        lastIndex.compareAndSet(requestIndex, responseIndex < requestIndex ? 0 : responseIndex);
+        return responseIndex != requestIndex;
     }
 
     private static boolean filterL1NonEmptyPaths(String pathPrefix, String path) {
@@ -226,7 +400,7 @@ public class ConsulService {
             try {
                 String decodedValue = response.getDecodedValue();
                 if (decodedValue != null) {
-                    reports.add(objectMapper.readValue(decodedValue, EngineState.class));
+                    reports.add(codec.decode(decodedValue, EngineState.class));
                 }
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
@@ -263,7 +437,7 @@ public class ConsulService {
 
             String value = keyResponse.getDecodedValue();
             try {
-                result.put(chainId, objectMapper.readValue(value, DeploymentRuntimeProperties.class));
+                result.put(chainId, codec.decode(value, DeploymentRuntimeProperties.class));
             } catch (Exception e) {
                 log.warn("Failed to deserialize runtime properties update for chain: {}, error: {}", chainId, e.getMessage());
                 exception = true;
@@ -279,7 +453,11 @@ public class ConsulService {
     }
 
     private @Nullable String parseChainId(KeyResponse k) {
-        String[] keys = k.getKey().split("/");
+        return parseChainId(k.getKey());
+    }
+
+    private @Nullable String parseChainId(String key) {
+        String[] keys = key.split("/");
         int keyIndex = getKeyIndex(keys, keyRuntimeConfigurations);
         int chainIdTargetIndex = keyIndex + 2;
         boolean keyIsValid = keyIndex != -1 && keys.length > chainIdTargetIndex && StringUtils.isNotEmpty(keys[chainIdTargetIndex]);
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVDelta;
+import org.qubership.integration.platform.catalog.model.consul.ConsulStateSnapshot;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * In-memory mirror of a Consul prefix kept current by a single watch.
+ * <p>
+ * The mirror is served only while the watch got a response within the staleness bound,
+ * Consul answers blocking queries at least once per wait time even without changes.
+ */
+class ConsulStateMirror<T> {
+    private final long maxStalenessMs;
+
+    private volatile ConsulStateSnapshot<T> snapshot;
+    private volatile boolean consistent;
+    private volatile ConsulWatch watch;
+
+    ConsulStateMirror(long maxStalenessMs) {
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    void start(Function<Consumer<ConsulKVDelta<T>>, ConsulWatch> watchStarter) {
+        watch = watchStarter.apply(this::update);
+    }
+
+    void stop() {
+        ConsulWatch currentWatch = watch;
+        if (nonNull(currentWatch)) {
+            currentWatch.cancel();
+        }
+        snapshot = null;
+    }
+
+    /**
+     * @return current snapshot, empty if the mirror is cold, stale or failed to decode some values
+     */
+    ConsulStateSnapshot<T> getSnapshot() {
+        ConsulWatch currentWatch = watch;
+        ConsulStateSnapshot<T> currentSnapshot = snapshot;
+        if (isNull(currentWatch) || isNull(currentSnapshot) || !consistent || currentWatch.isCancelled()) {
+            return null;
+        }
+        long confirmedAt = currentWatch.getLastResponseTime();
+        if (System.currentTimeMillis() - confirmedAt > maxStalenessMs) {
+            return null;
+        }
+        return new ConsulStateSnapshot<>(currentSnapshot.getVersion(), currentSnapshot.getValues(), confirmedAt);
+    }
+
+    // Watch listener calls are sequential
+    private void update(ConsulKVDelta<T> delta) {
+        consistent = delta.getFailedIds().isEmpty();
+        ConsulStateSnapshot<T> currentSnapshot = snapshot;
+        if (isNull(currentSnapshot) || delta.hasChanges()) {
+            long version = isNull(currentSnapshot) ? 1 : currentSnapshot.getVersion() + 1;
+            snapshot = new ConsulStateSnapshot<>(version, delta.getView(), System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.consul.exception.ConsulException;
+import org.qubership.integration.platform.catalog.consul.exception.TxnConflictException;
+import org.qubership.integration.platform.catalog.model.consul.txn.request.TxnRequest;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnBatchResponse;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnResponse;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnResponseError;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Sends operations split into {@link ConsulClient#MAX_TXN_SIZE} partitions concurrently on the given executor,
+ * so the executor size bounds the parallelism.
+ * <p>
+ * Partitions that failed with a server or connection error are resent with exponential backoff.
+ * A resent SET or DELETE has the same effect, a resent CAS operation may be rejected as a conflict
+ * if the first attempt was applied but its response was lost.
+ */
+@Slf4j
+class ConsulTxnDispatcher {
+    private final Function<List<TxnRequest>, TxnResponse> sender;
+    private final Executor executor;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    ConsulTxnDispatcher(Function<List<TxnRequest>, TxnResponse> sender, Executor executor,
+                        int maxRetries, long retryBackoffMs) {
+        this.sender = sender;
+        this.executor = executor;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    TxnBatchResponse dispatch(List<TxnRequest> operations) {
+        List<List<TxnRequest>> partitions = Lists.partition(operations, ConsulClient.MAX_TXN_SIZE);
+        List<CompletableFuture<PartitionResult>> futures = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            List<TxnRequest> partition = partitions.get(i);
+            int offset = i * ConsulClient.MAX_TXN_SIZE;
+            futures.add(partitions.size() == 1
+                    ? CompletableFuture.completedFuture(send(partition, offset))
+                    : CompletableFuture.supplyAsync(() -> send(partition, offset), executor));
+        }
+
+        TxnBatchResponse result = new TxnBatchResponse();
+        for (CompletableFuture<PartitionResult> future : futures) {
+            PartitionResult partitionResult = future.join();
+            if (nonNull(partitionResult.response) && nonNull(partitionResult.response.getResults())) {
+                result.getResults().addAll(partitionResult.response.getResults());
+            }
+            result.getErrors().addAll(partitionResult.errors);
+            if (nonNull(partitionResult.failure)) {
+                result.getFailures().add(partitionResult.failure);
+            }
+        }
+        return result;
+    }
+
+    private PartitionResult send(List<TxnRequest> partition, int offset) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return new PartitionResult(sender.apply(partition), List.of(), null);
+            } catch (TxnConflictException e) {
+                return new PartitionResult(null, conflictErrors(e, partition, offset), e);
+            } catch (RuntimeException e) {
+                if (attempt >= maxRetries || !isRetryable(e)) {
+                    return new PartitionResult(null, failedErrors(e, partition, offset), e);
+                }
+                long delay = backoff(attempt);
+                log.warn("Consul txn request for operations {}-{} failed, retrying in {} ms: {}",
+                        offset, offset + partition.size() - 1, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return new PartitionResult(null, failedErrors(e, partition, offset), e);
+                }
+            }
+        }
+    }
+
+    private long backoff(int attempt) {
+        long delay = retryBackoffMs << Math.min(attempt, 16);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        Throwable cause = e instanceof ConsulException && nonNull(e.getCause()) ? e.getCause() : e;
+        return cause instanceof HttpServerErrorException || cause instanceof ResourceAccessException;
+    }
+
+    private static List<TxnResponseError> conflictErrors(TxnConflictException e, List<TxnRequest> partition, int offset) {
+        TxnResponse response = e.getResponse();
+        if (nonNull(response) && nonNull(response.getErrors()) && !response.getErrors().isEmpty()) {
+            return response.getErrors().stream()
+                    .map(error -> new TxnResponseError(error.getOpIndex() + offset, error.getWhat()))
+                    .toList();
+        }
+        return failedErrors(e, partition, offset);
+    }
+
+    private static List<TxnResponseError> failedErrors(Exception e, List<TxnRequest> partition, int offset) {
+        List<TxnResponseError> errors = new ArrayList<>(partition.size());
+        for (int i = 0; i < partition.size(); i++) {
+            errors.add(new TxnResponseError(offset + i, e.getMessage()));
+        }
+        return errors;
+    }
+
+    private static class PartitionResult {
+        private final TxnResponse response;
+        private final List<TxnResponseError> errors;
+        private final RuntimeException failure;
+
+        PartitionResult(TxnResponse response, List<TxnResponseError> errors, RuntimeException failure) {
+            this.response = response;
+            this.errors = errors;
+            this.failure = failure;
+        }
+    }
+}
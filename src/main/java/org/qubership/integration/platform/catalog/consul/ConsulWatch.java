@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Handle of a key watched by {@link ConsulWatchEngine}.
+ */
+public class ConsulWatch {
+    @Getter
+    private final String key;
+    @Getter
+    private final boolean recurse;
+    final ConsulWatchListener listener;
+
+    final AtomicLong index = new AtomicLong();
+    final AtomicInteger failures = new AtomicInteger();
+    final AtomicReference<CompletableFuture<?>> pendingRequest = new AtomicReference<>();
+    private volatile boolean cancelled;
+    private volatile long lastResponseTime;
+
+    ConsulWatch(String key, boolean recurse, ConsulWatchListener listener) {
+        this.key = key;
+        this.recurse = recurse;
+        this.listener = listener;
+    }
+
+    /**
+     * @return index of the last handled response, 0 before the first one
+     */
+    public long getIndex() {
+        return index.get();
+    }
+
+    /**
+     * @return time in milliseconds of the last successful response, 0 before the first one
+     */
+    public long getLastResponseTime() {
+        return lastResponseTime;
+    }
+
+    void markResponse() {
+        lastResponseTime = System.currentTimeMillis();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Stops the watch, an in-flight request is aborted.
+     */
+    public void cancel() {
+        cancelled = true;
+        CompletableFuture<?> request = pendingRequest.getAndSet(null);
+        if (request != null) {
+            request.cancel(true);
+        }
+    }
+}
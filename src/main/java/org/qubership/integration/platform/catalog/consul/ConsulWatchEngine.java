@@ -0,0 +1,273 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.catalog.consul.exception.ConsulException;
+import org.qubership.integration.platform.catalog.model.consul.KeyResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Watches Consul KV keys with blocking queries, without holding a thread per watch.
+ * <p>
+ * Requests are sent with the asynchronous JDK HTTP client, the next request of a watch is sent once
+ * the previous response is handled, so listener calls of a watch are sequential. The index of every
+ * watch is kept atomically. It is reset when Consul returns a lower index, for example after a restore,
+ * as the Consul blocking query guidelines require. Failed requests and index resets are retried with
+ * jittered exponential backoff.
+ */
+@Slf4j
+@Component
+public class ConsulWatchEngine {
+    private static final TypeReference<List<KeyResponse>> KEY_RESPONSES_TYPE = new TypeReference<>() {};
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final ObjectMapper objectMapper;
+    private final String consulUrl;
+    private final String consulToken;
+    private final long waitSeconds;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Duration requestTimeout;
+
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService retryScheduler;
+    private final ExecutorService callbackExecutor;
+    private final Set<ConsulWatch> watches = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ConsulWatchEngine(
+            ObjectMapper jsonMapper,
+            @Value("${consul.url}") String consulUrl,
+            @Value("${consul.token}") String consulToken,
+            @Value("${consul.watch.wait-seconds:20}") long waitSeconds,
+            @Value("${consul.watch.backoff.initial-ms:500}") long initialBackoffMs,
+            @Value("${consul.watch.backoff.max-ms:30000}") long maxBackoffMs,
+            @Value("${consul.watch.callback-threads:4}") int callbackThreads
+    ) {
+        this.objectMapper = jsonMapper;
+        this.consulUrl = StringUtils.strip(consulUrl, "/");
+        this.consulToken = consulToken;
+        this.waitSeconds = waitSeconds;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.requestTimeout = Duration.ofMillis(getMaxResponseIntervalMs()).plusSeconds(10);
+
+        this.callbackExecutor = Executors.newFixedThreadPool(callbackThreads, new WatchThreadFactory("consul-watch-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(new WatchThreadFactory("consul-watch-retry-"));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(callbackExecutor)
+                .build();
+    }
+
+    /**
+     * Starts watching the key. The listener is called with the current value first.
+     *
+     * @param key key with a leading slash, e.g. '/config/test/key'
+     * @param recurse whether to watch all keys with the given prefix
+     */
+    public ConsulWatch watch(String key, boolean recurse, ConsulWatchListener listener) {
+        ConsulWatch watch = new ConsulWatch(key, recurse, listener);
+        watches.add(watch);
+        poll(watch);
+        return watch;
+    }
+
+    /**
+     * Consul adds up to wait / 16 of jitter to the wait time.
+     *
+     * @return longest time Consul may hold a blocking query of a healthy watch, the wait time with its jitter
+     */
+    public long getMaxResponseIntervalMs() {
+        long waitMs = TimeUnit.SECONDS.toMillis(waitSeconds);
+        return waitMs + waitMs / 16;
+    }
+
+    public int getWatchCount() {
+        return watches.size();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        watches.forEach(ConsulWatch::cancel);
+        watches.clear();
+        retryScheduler.shutdownNow();
+        callbackExecutor.shutdownNow();
+    }
+
+    private void poll(ConsulWatch watch) {
+        if (watch.isCancelled()) {
+            watches.remove(watch);
+            return;
+        }
+        long index = watch.index.get();
+        HttpRequest request = HttpRequest.newBuilder(buildUri(watch, index))
+                .header(ConsulClient.CONSUL_TOKEN_HEADER, StringUtils.defaultString(consulToken))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+        CompletableFuture<HttpResponse<byte[]>> response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        watch.pendingRequest.set(response);
+        response.thenAcceptAsync(result -> handleResponse(watch, index, result), callbackExecutor)
+                .exceptionally(error -> {
+                    handleError(watch, error instanceof CompletionException ? error.getCause() : error);
+                    return null;
+                });
+        if (watch.isCancelled()) {
+            response.cancel(true);
+        }
+    }
+
+    private void handleResponse(ConsulWatch watch, long requestIndex, HttpResponse<byte[]> response) {
+        if (watch.isCancelled()) {
+            watches.remove(watch);
+            return;
+        }
+        int status = response.statusCode();
+        if (status != 200 && status != 404) {
+            throw new ConsulException("Consul blocking query for key " + watch.getKey() + " failed with code " + status);
+        }
+        long responseIndex = parseIndex(response);
+        watch.failures.set(0);
+
+        if (responseIndex < requestIndex) {
+            log.debug("Consul index of key {} went backwards from {} to {}, resetting", watch.getKey(), requestIndex, responseIndex);
+            watch.index.compareAndSet(requestIndex, 0);
+            scheduleRetry(watch, backoff(1));
+            return;
+        }
+
+        List<KeyResponse> values = status == 404 ? Collections.emptyList() : parseValues(response.body());
+        // An index must be at least 1 to block
+        watch.index.compareAndSet(requestIndex, Math.max(responseIndex, 1));
+        boolean handled = true;
+        if (requestIndex == 0 || responseIndex != requestIndex) {
+            try {
+                watch.listener.onChange(responseIndex, values);
+            } catch (Exception e) {
+                handled = false;
+                log.error("Consul watch listener for key {} failed", watch.getKey(), e);
+                notifyError(watch, e);
+            }
+        }
+        // The mirrored state is fresh only when the values reached the listener
+        if (handled) {
+            watch.markResponse();
+        }
+        poll(watch);
+    }
+
+    private void handleError(ConsulWatch watch, Throwable error) {
+        if (watch.isCancelled()) {
+            watches.remove(watch);
+            return;
+        }
+        long delay = backoff(watch.failures.incrementAndGet());
+        log.warn("Consul watch for key {} failed, retrying in {} ms: {}", watch.getKey(), delay, error.getMessage());
+        notifyError(watch, error);
+        scheduleRetry(watch, delay);
+    }
+
+    private static void notifyError(ConsulWatch watch, Throwable error) {
+        try {
+            watch.listener.onError(error);
+        } catch (Exception e) {
+            log.error("Consul watch error listener for key {} failed", watch.getKey(), e);
+        }
+    }
+
+    private void scheduleRetry(ConsulWatch watch, long delayMs) {
+        try {
+            retryScheduler.schedule(() -> poll(watch), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            watches.remove(watch);
+        }
+    }
+
+    /**
+     * @return random delay between half and full exponential backoff for the attempt
+     */
+    long backoff(int attempt) {
+        long delay = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private URI buildUri(ConsulWatch watch, long index) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(consulUrl + ConsulClient.CONSUL_KV_PATH + watch.getKey())
+                .queryParam("index", index)
+                .queryParam("wait", waitSeconds + "s");
+        // Consul treats the presence of the parameter as true
+        if (watch.isRecurse()) {
+            builder.queryParam("recurse", true);
+        }
+        return builder.encode().build().toUri();
+    }
+
+    private static long parseIndex(HttpResponse<?> response) {
+        return response.headers()
+                .firstValue(ConsulClient.CONSUL_INDEX_HEADER)
+                .map(Long::parseLong)
+                .orElseThrow(() -> new ConsulException("Consul response has no " + ConsulClient.CONSUL_INDEX_HEADER + " header"));
+    }
+
+    private List<KeyResponse> parseValues(byte[] body) {
+        if (body == null || body.length == 0) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(body, KEY_RESPONSES_TYPE);
+        } catch (IOException e) {
+            throw new ConsulException("Failed to parse Consul KV response", e);
+        }
+    }
+
+    private static class WatchThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        WatchThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
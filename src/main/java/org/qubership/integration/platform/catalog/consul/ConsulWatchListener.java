@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import org.qubership.integration.platform.catalog.model.consul.KeyResponse;
+
+import java.util.List;
+
+/**
+ * Callback of a {@link ConsulWatch}. Calls for the same watch are never concurrent.
+ */
+public interface ConsulWatchListener {
+    /**
+     * Called with the first response and whenever the index of the watched key changes.
+     *
+     * @param index index of the response, {@code X-Consul-Index} header
+     * @param values watched key values, empty if the key does not exist
+     */
+    void onChange(long index, List<KeyResponse> values);
+
+    /**
+     * Called when a request or {@link #onChange} fails. Failed requests are retried after a backoff.
+     */
+    default void onError(Throwable error) {
+    }
+}
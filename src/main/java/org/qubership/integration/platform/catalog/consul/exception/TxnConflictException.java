@@ -16,8 +16,17 @@
 
 package org.qubership.integration.platform.catalog.consul.exception;
 
+import lombok.Getter;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnResponse;
+
 
 public class TxnConflictException extends ConsulException {
+    /**
+     * Consul response with the failed operations, if it could be read.
+     */
+    @Getter
+    private TxnResponse response;
+
     public TxnConflictException() {
         super();
     }
@@ -29,4 +38,9 @@ public class TxnConflictException extends ConsulException {
     public TxnConflictException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    public TxnConflictException(String message, Throwable cause, TxnResponse response) {
+        super(message, cause);
+        this.response = response;
+    }
 }
@@ -29,6 +29,8 @@ import java.util.Set;
 @NoArgsConstructor
 @ToString
 public class ElementRoute {
+    private static final PathIntersectionChecker INTERSECTION_CHECKER = new PathIntersectionChecker();
+
     private String path;
     private Set<HttpMethod> methods;
     private boolean isExternal;
@@ -36,9 +38,7 @@ public class ElementRoute {
     private long connectionTimeout;
 
     public boolean intersectsWith(ElementRoute route) {
-        PathIntersectionChecker intersectionChecker = new PathIntersectionChecker();
-
-        return intersectionChecker.intersects(path, route.getPath())
+        return INTERSECTION_CHECKER.intersects(path, route.getPath())
                 && methods.stream().anyMatch(route.getMethods()::contains);
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.model.actionlog;
+
+import lombok.*;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionLogPage {
+    private List<ActionLog> actionLogs;
+
+    /**
+     * Key of the next page, empty when this page is the last one.
+     */
+    private Timestamp nextActionTime;
+    private String nextId;
+
+    /**
+     * Number of matching records, empty when no count was requested.
+     */
+    private Long totalCount;
+
+    /**
+     * Whether {@link #totalCount} is exact, it is capped or estimated otherwise.
+     */
+    private boolean totalCountExact;
+}
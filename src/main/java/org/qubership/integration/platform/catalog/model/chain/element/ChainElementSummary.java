@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.model.chain.element;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Chain element search result with a subset of element properties")
+public class ChainElementSummary {
+    @Schema(description = "Element id")
+    private String id;
+    @Schema(description = "Element name")
+    private String name;
+    @Schema(description = "Element type")
+    private String type;
+    @Schema(description = "Id of the chain containing the element")
+    private String chainId;
+    @Schema(description = "Name of the chain containing the element")
+    private String chainName;
+    @Schema(description = "Element properties relevant for element search")
+    private Map<String, Object> properties;
+}
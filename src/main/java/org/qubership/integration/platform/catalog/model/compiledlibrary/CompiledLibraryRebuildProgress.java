@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.model.compiledlibrary;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks a batch of compiled library rebuilds submitted to the rebuild scheduler.
+ */
+public class CompiledLibraryRebuildProgress {
+    @Getter
+    private final String batchId;
+    @Getter
+    private final int total;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    // Completed by the last rebuild callback, so the counters are final once it is done
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    public CompiledLibraryRebuildProgress(String batchId, Map<String, CompletableFuture<Void>> rebuilds) {
+        this.batchId = batchId;
+        this.total = rebuilds.size();
+        if (total == 0) {
+            completion.complete(null);
+        }
+        rebuilds.forEach((modelId, rebuild) -> rebuild.whenComplete((result, exception) -> {
+            if (exception != null) {
+                Throwable failure = unwrap(exception);
+                failures.put(modelId, failure);
+                firstFailure.compareAndSet(null, failure);
+            }
+            if (completed.incrementAndGet() == total) {
+                Throwable failure = firstFailure.get();
+                if (failure == null) {
+                    completion.complete(null);
+                } else {
+                    completion.completeExceptionally(failure);
+                }
+            }
+        }));
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public Map<String, Throwable> getFailures() {
+        return Map.copyOf(failures);
+    }
+
+    public Collection<String> getFailedModelIds() {
+        return List.copyOf(failures.keySet());
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Blocks until every rebuild of the batch is finished and rethrows the failure of the first failed one.
+     */
+    public void await() {
+        try {
+            completion.join();
+        } catch (CompletionException exception) {
+            Throwable cause = unwrap(exception);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    private static Throwable unwrap(Throwable exception) {
+        return exception instanceof CompletionException && exception.getCause() != null
+                ? exception.getCause()
+                : exception;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.model.consul;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class ConsulKVDelta<T> {
+    /**
+     * Whether this is the first delta of the decoder, all present values are reported as added.
+     */
+    private final boolean initial;
+    private final List<ConsulKVChange<T>> changes;
+
+    /**
+     * Full state after the changes, read-only.
+     */
+    private final Map<String, T> view;
+
+    /**
+     * Ids of values that failed to parse, the view keeps their previous values.
+     */
+    private final Set<String> failedIds;
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.model.consul;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Immutable state of a Consul prefix mirrored in memory.
+ */
+@Getter
+@AllArgsConstructor
+public class ConsulStateSnapshot<T> {
+    /**
+     * Incremented on every change of the values.
+     */
+    private final long version;
+
+    /**
+     * Read-only values by id.
+     */
+    private final Map<String, T> values;
+
+    /**
+     * Time in milliseconds the values were last confirmed by Consul.
+     */
+    private final long confirmedAt;
+}
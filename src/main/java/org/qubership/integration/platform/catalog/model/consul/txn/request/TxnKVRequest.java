@@ -16,6 +16,7 @@
 
 package org.qubership.integration.platform.catalog.model.consul.txn.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -40,9 +41,22 @@ public class TxnKVRequest {
     @JsonProperty("Value")
     private String value;
 
+    /**
+     * Expected ModifyIndex for {@link TxnVerb#CAS} and {@link TxnVerb#DELETE_CAS}.
+     */
+    @Nullable
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("Index")
+    private Long index;
+
     public TxnKVRequest(TxnVerb verb, String key, @Nullable String value) {
+        this(verb, key, value, null);
+    }
+
+    public TxnKVRequest(TxnVerb verb, String key, @Nullable String value, @Nullable Long index) {
         this.verb = verb;
         this.key = key;
+        this.index = index;
         setValue(value);
     }
 
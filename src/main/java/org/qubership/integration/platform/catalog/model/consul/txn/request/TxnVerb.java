@@ -25,4 +25,14 @@ public enum TxnVerb {
     GET,
     @JsonProperty("delete")
     DELETE,
+    /**
+     * Sets the value only if the key's ModifyIndex matches the index, 0 means the key must not exist.
+     */
+    @JsonProperty("cas")
+    CAS,
+    /**
+     * Deletes the key only if its ModifyIndex matches the index.
+     */
+    @JsonProperty("delete-cas")
+    DELETE_CAS,
 }
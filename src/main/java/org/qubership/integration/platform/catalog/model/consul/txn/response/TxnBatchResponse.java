@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.model.consul.txn.response;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aggregated result of a transaction split into several Consul txn requests.
+ * Operation indexes of errors refer to the whole operation list.
+ */
+@Getter
+public class TxnBatchResponse {
+    private final List<TxnResponseResult> results = new ArrayList<>();
+    private final List<TxnResponseError> errors = new ArrayList<>();
+
+    /**
+     * Causes of failed txn requests, each request is applied or rolled back as a whole.
+     */
+    private final List<Throwable> failures = new ArrayList<>();
+
+    public boolean isSuccessful() {
+        return errors.isEmpty() && failures.isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.model.dto.actionlog;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "How the total number of matching audit log records is calculated")
+public enum ActionLogCountMode {
+    /**
+     * No count.
+     */
+    NONE,
+    /**
+     * Exact count, scans all matching records.
+     */
+    EXACT,
+    /**
+     * Exact count up to the configured window, the window size is returned for larger results.
+     */
+    WINDOWED,
+    /**
+     * Estimate from the table statistics when no filters are set, windowed count otherwise.
+     */
+    APPROXIMATE
+}
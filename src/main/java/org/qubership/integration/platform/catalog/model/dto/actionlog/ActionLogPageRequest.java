@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.model.dto.actionlog;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Keyset page request for audit log, records are ordered by action time and id descending")
+public class ActionLogPageRequest {
+    @Schema(description = "Action time of the last record of the previous page, empty for the first page")
+    private Long afterActionTime;
+
+    @Schema(description = "Id of the last record of the previous page")
+    private String afterId;
+
+    @Schema(description = "Lower bound of action time, inclusive")
+    private Long fromTime;
+
+    @Builder.Default
+    @Schema(description = "Maximum number of records in a page")
+    private int limit = 100;
+
+    @Builder.Default
+    private ActionLogCountMode countMode = ActionLogCountMode.NONE;
+
+    @Builder.Default
+    private List<ActionLogFilterRequestDTO> filters = Collections.emptyList();
+}
@@ -24,5 +24,9 @@ public enum ChainElementFilterColumn {
     TYPE,
     ROLES,
     CHAIN,
-    CHAIN_STATUS
+    CHAIN_STATUS,
+    SYSTEM_ID,
+    OPERATION_ID,
+    TOPICS,
+    QUEUES
 }
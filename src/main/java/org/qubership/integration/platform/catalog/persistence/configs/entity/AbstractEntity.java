@@ -44,7 +44,8 @@ import java.util.UUID;
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 @FieldNameConstants
-public abstract class AbstractEntity implements Serializable, Comparable<AbstractEntity> {
+public abstract class AbstractEntity implements Serializable, Comparable<AbstractEntity>, EntityIdentity {
+    private static final Comparator<AbstractEntity> IDENTITY_COMPARATOR = Comparator.comparing(AbstractEntity::getId);
 
     @Id
     @Builder.Default
@@ -102,7 +103,11 @@ public abstract class AbstractEntity implements Serializable, Comparable<Abstrac
 
     @Override
     public int compareTo(@NotNull AbstractEntity abstractEntity) {
-        return Comparator.comparing(AbstractEntity::getId)
-                .compare(this,abstractEntity);
+        return IDENTITY_COMPARATOR.compare(this, abstractEntity);
+    }
+
+    @Override
+    public Object identityKey() {
+        return id;
     }
 }
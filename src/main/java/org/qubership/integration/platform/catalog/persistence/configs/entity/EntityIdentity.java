@@ -0,0 +1,26 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.entity;
+
+/**
+ * Entity exposing the key it is matched by when collections of entities are reconciled,
+ * see {@link org.qubership.integration.platform.catalog.persistence.configs.repository.common.CommonRepository#actualizeCollectionState}.
+ * Keys must be equal exactly when {@link Comparable#compareTo} returns 0.
+ */
+public interface EntityIdentity {
+    Object identityKey();
+}
@@ -32,7 +32,15 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.Use
 @AllArgsConstructor
 @ToString
 @Entity(name = "logged_actions")
-@Table(indexes = @Index(name = "logged_actions_timestamp_idx", columnList = "actionTime"))
+@Table(indexes = {
+        @Index(name = "logged_actions_timestamp_idx", columnList = "actionTime"),
+        // Keyset pagination order
+        @Index(name = "logged_actions_time_id_idx", columnList = "actionTime DESC, id DESC"),
+        // Common filters combined with the time order
+        @Index(name = "logged_actions_entity_type_time_idx", columnList = "entityType, actionTime DESC"),
+        @Index(name = "logged_actions_entity_id_time_idx", columnList = "entityId, actionTime DESC"),
+        @Index(name = "logged_actions_request_id_idx", columnList = "requestId")
+})
 public class ActionLog {
 
     @Id
@@ -16,6 +16,7 @@
 
 package org.qubership.integration.platform.catalog.persistence.configs.entity.chain;
 
+import org.qubership.integration.platform.catalog.persistence.configs.entity.EntityIdentity;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import jakarta.persistence.*;
 import lombok.*;
@@ -23,6 +24,7 @@ import lombok.experimental.SuperBuilder;
 import org.hibernate.proxy.HibernateProxy;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.UUID;
@@ -33,7 +35,10 @@ import java.util.UUID;
 @NoArgsConstructor
 @SuperBuilder
 @Entity(name = "dependencies")
-public class Dependency implements Serializable, Comparable<Dependency> {
+public class Dependency implements Serializable, Comparable<Dependency>, EntityIdentity {
+    private static final Comparator<Dependency> IDENTITY_COMPARATOR = Comparator.comparing(Dependency::getId)
+            .thenComparing((Dependency d) -> d.getElementFrom().getId())
+            .thenComparing((Dependency d) -> d.getElementTo().getId());
 
     @Id
     @Builder.Default
@@ -82,9 +87,11 @@ public class Dependency implements Serializable, Comparable<Dependency> {
 
     @Override
     public int compareTo(Dependency dependency) {
-     return Comparator.comparing((Dependency d) -> d.getId())
-                .thenComparing((Dependency d) -> d.getElementFrom().getId())
-                .thenComparing((Dependency d) -> d.getElementTo().getId())
-                .compare(this,dependency);
+        return IDENTITY_COMPARATOR.compare(this, dependency);
+    }
+
+    @Override
+    public Object identityKey() {
+        return Arrays.asList(id, elementFrom.getId(), elementTo.getId());
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.entity.chain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Ancestry link between two folders, including a link of every folder to itself with zero depth.
+ * <p>
+ * The entity is mapped regardless of 'qip.folder-hierarchy.closure-table.enabled', services validating
+ * the schema must create the table:
+ * <pre>
+ * CREATE TABLE catalog.folder_closure (
+ *     ancestor_id   VARCHAR(255) NOT NULL,
+ *     descendant_id VARCHAR(255) NOT NULL,
+ *     depth         INTEGER NOT NULL,
+ *     PRIMARY KEY (ancestor_id, descendant_id)
+ * );
+ * CREATE INDEX folder_closure_descendant_idx ON catalog.folder_closure (descendant_id);
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity(name = "folder_closure")
+@IdClass(FolderClosure.FolderClosureId.class)
+@Table(indexes = @Index(name = "folder_closure_descendant_idx", columnList = "descendantId"))
+public class FolderClosure {
+
+    @Id
+    private String ancestorId;
+
+    @Id
+    private String descendantId;
+
+    private int depth;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FolderClosureId implements Serializable {
+        private String ancestorId;
+        private String descendantId;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Reverse reference from an object id stored in element properties to the chain element.
+ * Only elements belonging to a chain are referenced, snapshot elements are skipped.
+ * References are removed by the database along with their element or chain, also when those are
+ * deleted by a cascade that Hibernate does not see, e.g. of a removed folder.
+ * <p>
+ * The entity is mapped regardless of 'qip.element-references.enabled', services validating the schema
+ * must create the table:
+ * <pre>
+ * CREATE TABLE catalog.element_references (
+ *     id             VARCHAR(255) PRIMARY KEY,
+ *     reference_type VARCHAR(255),
+ *     referenced_id  VARCHAR(255),
+ *     element_id     VARCHAR(255) REFERENCES catalog.elements (id) ON DELETE CASCADE,
+ *     chain_id       VARCHAR(255) REFERENCES catalog.chains (id) ON DELETE CASCADE
+ * );
+ * CREATE INDEX element_references_referenced_idx ON catalog.element_references (reference_type, referenced_id);
+ * CREATE INDEX element_references_element_idx ON catalog.element_references (element_id);
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Entity(name = "element_references")
+@Table(indexes = {
+        @Index(name = "element_references_referenced_idx", columnList = "referenceType, referencedId"),
+        @Index(name = "element_references_element_idx", columnList = "elementId")
+})
+public class ElementReference {
+
+    @Id
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    private ElementReferenceType referenceType;
+
+    private String referencedId;
+
+    private String elementId;
+
+    private String chainId;
+
+    @ToString.Exclude
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "element_id", insertable = false, updatable = false)
+    private ChainElement element;
+
+    @ToString.Exclude
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chain_id", insertable = false, updatable = false)
+    private Chain chain;
+
+    public static String buildId(ElementReferenceType referenceType, String elementId) {
+        return referenceType.name() + ":" + elementId;
+    }
+
+    public static List<ElementReference> fromElement(ChainElement element) {
+        List<ElementReference> references = new ArrayList<>();
+        if (isNull(element.getChain()) || isNull(element.getProperties())) {
+            return references;
+        }
+        for (ElementReferenceType referenceType : ElementReferenceType.values()) {
+            Object referencedId = element.getProperties().get(referenceType.getPropertyName());
+            if (referencedId != null) {
+                references.add(ElementReference.builder()
+                        .id(buildId(referenceType, element.getId()))
+                        .referenceType(referenceType)
+                        .referencedId(referencedId.toString())
+                        .elementId(element.getId())
+                        .chainId(element.getChain().getId())
+                        .build());
+            }
+        }
+        return references;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element;
+
+import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
+
+/**
+ * Kinds of objects referenced from chain element properties.
+ */
+public enum ElementReferenceType {
+    SYSTEM(CamelOptions.SYSTEM_ID),
+    SPECIFICATION_GROUP(CamelOptions.SPECIFICATION_GROUP_ID),
+    SYSTEM_MODEL(CamelOptions.MODEL_ID);
+
+    private final String propertyName;
+
+    ElementReferenceType(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+}
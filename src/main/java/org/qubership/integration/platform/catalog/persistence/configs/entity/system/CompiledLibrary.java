@@ -28,6 +28,8 @@ import jakarta.persistence.*;
 
 import java.sql.Types;
 
+import static java.util.Objects.isNull;
+
 @Getter
 @Setter
 @Entity
@@ -36,8 +38,33 @@ import java.sql.Types;
 @Table(name = "compiled_libraries")
 @EntityListeners(CompiledLibraryEventListener.class)
 public class CompiledLibrary extends AbstractSystemEntity {
+    /**
+     * Jar of the library, shared with other libraries built from the same sources.
+     * Requires {@link CompiledLibraryData} table and
+     * {@code ALTER TABLE catalog.compiled_libraries ADD COLUMN source_hash VARCHAR(255)
+     * REFERENCES catalog.compiled_library_data (source_hash)} with an index on it.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_hash")
+    private CompiledLibraryData libraryData;
+
+    /**
+     * Jar stored in the row itself by earlier versions, served until the library is rebuilt.
+     */
     @Lob
     @JdbcTypeCode(Types.VARBINARY)
     @Basic(fetch = FetchType.LAZY)
     private byte[] data;
+
+    /**
+     * Digest of the generated sources, manifest and compiler settings the library was built from.
+     * See {@link org.qubership.integration.platform.catalog.service.compiler.LibrarySourceDigest}.
+     */
+    public String getSourceHash() {
+        return isNull(libraryData) ? null : libraryData.getSourceHash();
+    }
+
+    public byte[] getData() {
+        return isNull(libraryData) ? data : libraryData.getData();
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.entity.system;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+
+import java.sql.Types;
+
+/**
+ * Jar bytes of a compiled library, stored once per source digest and shared by every
+ * {@link CompiledLibrary} built from the same sources.
+ * <pre>
+ * CREATE TABLE catalog.compiled_library_data (
+ *     source_hash VARCHAR(255) PRIMARY KEY,
+ *     data        BYTEA
+ * );
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "compiled_library_data")
+public class CompiledLibraryData {
+    @Id
+    @Column(name = "source_hash")
+    private String sourceHash;
+
+    @Lob
+    @JdbcTypeCode(Types.VARBINARY)
+    @Basic(fetch = FetchType.LAZY)
+    private byte[] data;
+}
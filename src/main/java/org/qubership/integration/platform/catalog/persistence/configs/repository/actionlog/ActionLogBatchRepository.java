@@ -0,0 +1,29 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.actionlog;
+
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+
+import java.util.Collection;
+
+public interface ActionLogBatchRepository {
+    /**
+     * Inserts new action logs using JDBC batches of the given size.
+     * Unlike {@code saveAll}, does not look up existing rows by the assigned identifiers.
+     */
+    void insertAll(Collection<ActionLog> actions, int batchSize);
+}
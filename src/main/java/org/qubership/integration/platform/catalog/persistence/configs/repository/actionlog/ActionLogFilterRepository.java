@@ -18,6 +18,8 @@ package org.qubership.integration.platform.catalog.persistence.configs.repositor
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
 
 import org.qubership.integration.platform.catalog.model.dto.actionlog.ActionLogFilterRequestDTO;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
@@ -27,4 +29,44 @@ public interface ActionLogFilterRepository {
             Timestamp offsetTime, long rangeTime, List<ActionLogFilterRequestDTO> filters);
 
     long getRecordsCountAfterTime(Timestamp timestamp, List<ActionLogFilterRequestDTO> filters);
+
+    /**
+     * Returns action logs ordered by action time and id, both descending, starting after the given key.
+     *
+     * @param fromTime lower bound of action time, inclusive
+     * @param afterTime action time of the last record of the previous page
+     * @param afterId id of the last record of the previous page, used as a tie-breaker for equal action times
+     */
+    List<ActionLog> findActionLogsPage(
+            @Nullable Timestamp fromTime,
+            @Nullable Timestamp afterTime,
+            @Nullable String afterId,
+            int limit,
+            List<ActionLogFilterRequestDTO> filters);
+
+    /**
+     * Counts action logs matching the filters, stopping at the given limit.
+     *
+     * @param fromTime lower bound of action time, inclusive
+     * @param limit maximum number of records to count, non-positive for an exact count
+     */
+    long countActionLogs(@Nullable Timestamp fromTime, List<ActionLogFilterRequestDTO> filters, int limit);
+
+    /**
+     * Streams action logs ordered by action time through a forward-only cursor.
+     * Must be consumed within a transaction, the stream must be closed after use.
+     *
+     * @param fromTime lower bound of action time, inclusive
+     * @param toTime upper bound of action time, exclusive
+     */
+    Stream<ActionLog> streamActionLogs(
+            @Nullable Timestamp fromTime,
+            @Nullable Timestamp toTime,
+            List<ActionLogFilterRequestDTO> filters);
+
+    /**
+     * @return number of action logs estimated from the table statistics,
+     * or a negative value if the statistics are not collected yet
+     */
+    long estimateActionLogsCount();
 }
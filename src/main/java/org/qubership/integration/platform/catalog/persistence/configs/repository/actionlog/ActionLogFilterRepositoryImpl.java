@@ -17,7 +17,6 @@
 package org.qubership.integration.platform.catalog.persistence.configs.repository.actionlog;
 
 import jakarta.persistence.criteria.*;
-import org.apache.commons.lang3.tuple.Pair;
 
 import org.qubership.integration.platform.catalog.exception.ActionLogException;
 import org.qubership.integration.platform.catalog.exception.InvalidEnumConstantException;
@@ -30,25 +29,50 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.act
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaDerivedRoot;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.criteria.JpaSubQuery;
 
 import java.sql.Timestamp;
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 public class ActionLogFilterRepositoryImpl implements ActionLogFilterRepository {
 
-    private static final Map<ActionLogFilterColumn, Pair<String, Function<String, ?>>> FILTER_ENTITY_COLUMN_MAPPING = Map.of(
-            ActionLogFilterColumn.ENTITY_ID, Pair.of("entityId", Function.identity()),
-            ActionLogFilterColumn.ENTITY_NAME, Pair.of("entityName", Function.identity()),
-            ActionLogFilterColumn.PARENT_ID, Pair.of("parentId", Function.identity()),
-            ActionLogFilterColumn.PARENT_NAME, Pair.of("parentName", Function.identity()),
-            ActionLogFilterColumn.REQUEST_ID, Pair.of("requestId", Function.identity()),
-            ActionLogFilterColumn.OPERATION, Pair.of("operation", LogOperation::valueOf),
-            ActionLogFilterColumn.ENTITY_TYPE, Pair.of("entityType", EntityType::valueOf),
-            ActionLogFilterColumn.ACTION_TIME, Pair.of("actionTime", Function.identity()),
-            ActionLogFilterColumn.INITIATOR, Pair.of("user.username", Function.identity())
-    );
+    private static final Map<ActionLogFilterColumn, ColumnMapping> FILTER_ENTITY_COLUMN_MAPPING = new EnumMap<>(Map.of(
+            ActionLogFilterColumn.ENTITY_ID, new ColumnMapping("entityId", Function.identity()),
+            ActionLogFilterColumn.ENTITY_NAME, new ColumnMapping("entityName", Function.identity()),
+            ActionLogFilterColumn.PARENT_ID, new ColumnMapping("parentId", Function.identity()),
+            ActionLogFilterColumn.PARENT_NAME, new ColumnMapping("parentName", Function.identity()),
+            ActionLogFilterColumn.REQUEST_ID, new ColumnMapping("requestId", Function.identity()),
+            ActionLogFilterColumn.OPERATION, new ColumnMapping("operation", LogOperation::valueOf),
+            ActionLogFilterColumn.ENTITY_TYPE, new ColumnMapping("entityType", EntityType::valueOf),
+            ActionLogFilterColumn.ACTION_TIME, new ColumnMapping("actionTime", Function.identity()),
+            ActionLogFilterColumn.INITIATOR, new ColumnMapping("user.username", Function.identity())
+    ));
+    private static final Map<FilterCondition, ConditionPredicateBuilder> CONDITION_PREDICATE_BUILDERS = buildConditionPredicateBuilders();
     private static final String ACTION_TIME_COLUMN = "actionTime";
+    private static final String ID_COLUMN = "id";
+    private static final int STREAM_FETCH_SIZE = 1000;
+    // A partitioned table has no statistics of its own, so its partitions are summed up.
+    // Returns -1 when none of the tables has been analyzed yet.
+    private static final String ESTIMATE_COUNT_QUERY = """
+            SELECT CASE WHEN COALESCE(bool_and(c.reltuples < 0), true) THEN -1
+                        ELSE CAST(SUM(GREATEST(c.reltuples, 0)) AS BIGINT) END
+            FROM pg_class c
+            WHERE c.oid IN (SELECT i.inhrelid
+                            FROM pg_inherits i
+                            WHERE i.inhparent = CAST('catalog.logged_actions' AS regclass))
+               OR (c.oid = CAST('catalog.logged_actions' AS regclass) AND c.relkind <> 'p')""";
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -67,24 +91,112 @@ public class ActionLogFilterRepositoryImpl implements ActionLogFilterRepository
         return entityManager.createQuery(query).getSingleResult();
     }
 
+    @Override
+    public List<ActionLog> findActionLogsPage(
+            @Nullable Timestamp fromTime,
+            @Nullable Timestamp afterTime,
+            @Nullable String afterId,
+            int limit,
+            List<ActionLogFilterRequestDTO> filters
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ActionLog> query = builder.createQuery(ActionLog.class);
+        Root<ActionLog> actionLog = query.from(ActionLog.class);
+        List<Predicate> predicates = buildPredicates(builder, actionLog, fromTime, filters);
+
+        if (nonNull(afterTime)) {
+            predicates.add(buildKeysetPredicate(builder, actionLog.get(ACTION_TIME_COLUMN), actionLog.get(ID_COLUMN),
+                    afterTime, afterId));
+        }
+
+        query.select(actionLog)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.desc(actionLog.get(ACTION_TIME_COLUMN)), builder.desc(actionLog.get(ID_COLUMN)));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countActionLogs(@Nullable Timestamp fromTime, List<ActionLogFilterRequestDTO> filters, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        if (limit <= 0) {
+            CriteriaQuery<Long> query = builder.createQuery(Long.class);
+            Root<ActionLog> actionLog = query.from(ActionLog.class);
+            query.select(builder.count(actionLog))
+                    .where(buildPredicates(builder, actionLog, fromTime, filters).toArray(new Predicate[0]));
+            return entityManager.createQuery(query).getSingleResult();
+        }
+        // SELECT count(id) FROM (SELECT id ... LIMIT :limit), the cost does not grow with the table
+        HibernateCriteriaBuilder hibernateBuilder = (HibernateCriteriaBuilder) builder;
+        JpaCriteriaQuery<Long> query = hibernateBuilder.createQuery(Long.class);
+        JpaSubQuery<Tuple> window = query.subquery(Tuple.class);
+        JpaRoot<ActionLog> actionLog = window.from(ActionLog.class);
+        window.multiselect(actionLog.get(ID_COLUMN).alias(ID_COLUMN))
+                .where(buildPredicates(builder, actionLog, fromTime, filters).toArray(new Predicate[0]))
+                .fetch(limit);
+        JpaDerivedRoot<Tuple> windowRoot = query.from(window);
+        query.select(hibernateBuilder.count(windowRoot.get(ID_COLUMN)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Keyset condition for pages in descending order: {@code (action_time, id) < (afterTime, afterId)},
+     * or only {@code action_time < afterTime} without an id.
+     */
+    static Predicate buildKeysetPredicate(
+            CriteriaBuilder builder,
+            Path<Timestamp> actionTime,
+            Path<String> id,
+            Timestamp afterTime,
+            @Nullable String afterId
+    ) {
+        if (isNull(afterId)) {
+            return builder.lessThan(actionTime, afterTime);
+        }
+        return builder.or(
+                builder.lessThan(actionTime, afterTime),
+                builder.and(
+                        builder.equal(actionTime, afterTime),
+                        builder.lessThan(id, afterId)));
+    }
+
+    @Override
+    public Stream<ActionLog> streamActionLogs(
+            @Nullable Timestamp fromTime,
+            @Nullable Timestamp toTime,
+            List<ActionLogFilterRequestDTO> filters
+    ) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ActionLog> query = builder.createQuery(ActionLog.class);
+        Root<ActionLog> actionLog = query.from(ActionLog.class);
+        List<Predicate> predicates = buildPredicates(builder, actionLog, fromTime, filters);
+        if (nonNull(toTime)) {
+            predicates.add(builder.lessThan(actionLog.get(ACTION_TIME_COLUMN), toTime));
+        }
+        query.select(actionLog)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.asc(actionLog.get(ACTION_TIME_COLUMN)), builder.asc(actionLog.get(ID_COLUMN)));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public long estimateActionLogsCount() {
+        return ((Number) entityManager.createNativeQuery(ESTIMATE_COUNT_QUERY, Long.class).getSingleResult()).longValue();
+    }
+
     public CriteriaQuery<Long> getRecordsCount(Timestamp timestamp, List<ActionLogFilterRequestDTO> filters) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         CriteriaQuery<Long> query = builder.createQuery(Long.class);
         Root<ActionLog> actionLog = query.from(ActionLog.class);
-        List<Predicate> predicates = new LinkedList<>(); // combined with 'AND'
+        List<Predicate> predicates = buildPredicates(builder, actionLog, null, filters);
 
         // record_time <= timestamp
         predicates.add(builder.lessThanOrEqualTo(actionLog.get(ACTION_TIME_COLUMN), timestamp));
 
-        removeRedundantFilters(filters);
-        addFiltersToQuery(filters, builder, actionLog, predicates);
-
-        query = query.select(builder.count(actionLog));
-        Predicate finalPredicate = builder.and(predicates.toArray(new Predicate[0]));
-
-        return (!predicates.isEmpty() ?
-                query.where(finalPredicate) :
-                query);
+        return query.select(builder.count(actionLog))
+                .where(predicates.toArray(new Predicate[0]));
     }
 
     private CriteriaQuery<ActionLog> buildFilterQuery(
@@ -94,82 +206,75 @@ public class ActionLogFilterRepositoryImpl implements ActionLogFilterRepository
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         CriteriaQuery<ActionLog> query = builder.createQuery(ActionLog.class);
         Root<ActionLog> actionLog = query.from(ActionLog.class);
-        List<Predicate> predicates = new LinkedList<>(); // combined with 'AND'
+        List<Predicate> predicates = buildPredicates(builder, actionLog, null, filters);
 
         // record_time > (offsetTime - rangeTime)
         predicates.add(builder.greaterThan(actionLog.get(ACTION_TIME_COLUMN), new Timestamp(offsetTime.getTime() - rangeTime)));
         // record_time <= offsetTime
         predicates.add(builder.lessThanOrEqualTo(actionLog.get(ACTION_TIME_COLUMN), offsetTime));
 
-        removeRedundantFilters(filters);
-        addFiltersToQuery(filters, builder, actionLog, predicates);
-
-        query = query.select(actionLog);
-        Predicate finalPredicate = builder.and(predicates.toArray(new Predicate[0]));
-
-        return (!predicates.isEmpty() ?
-                query.where(finalPredicate) :
-                query)
+        return query.select(actionLog)
+                .where(predicates.toArray(new Predicate[0]))
                 .orderBy(Collections.singletonList(builder.desc(actionLog.get(ACTION_TIME_COLUMN))));
     }
 
-    private void addFiltersToQuery(List<ActionLogFilterRequestDTO> filters, CriteriaBuilder builder, Root<ActionLog> actionLog, List<Predicate> predicates) {
-        for (ActionLogFilterColumn actionLogFilterColumn : ActionLogFilterColumn.values()) {
-
-            // add filters
-            for (ActionLogFilterRequestDTO filter : filters) {
-                String value = filter.getValue();
-                ActionLogFilterColumn column = filter.getColumn();
-                Pair<String, Function<String, ?>> columnMapping = FILTER_ENTITY_COLUMN_MAPPING.get(column);
-                String columnName = columnMapping.getKey();
-                Function<String, ?> valueConverter = columnMapping.getValue();
-
-                if (columnName == null) {
-                    throw new ActionLogException("Filter column not found: " + column);
-                }
-
-                if (filter.getColumn() == actionLogFilterColumn) {
-                    Path valuePath = actionLog;
-                    for (String path : columnName.split("\\.")) {
-                        valuePath = valuePath.get(path);
-                    }
-                    switch (filter.getCondition()) {
-                        case IS -> predicates.add(builder.equal(valuePath, value));
-                        case IS_NOT -> predicates.add(builder.notEqual(valuePath, value));
-                        case CONTAINS -> predicates.add(
-                                builder.like(
-                                        builder.lower(valuePath),
-                                        "%" + value.toLowerCase() + "%"));
-                        case DOES_NOT_CONTAIN -> predicates.add(
-                                builder.notLike(
-                                        builder.lower(valuePath),
-                                        "%" + value.toLowerCase() + "%"));
-                        case START_WITH -> predicates.add(
-                                builder.like(
-                                        builder.lower(valuePath),
-                                        value.toLowerCase() + "%"));
-                        case ENDS_WITH -> predicates.add(
-                                builder.like(
-                                        builder.lower(valuePath),
-                                        "%" + value.toLowerCase()));
-                        case EMPTY -> predicates.add(builder.or(
-                                valuePath.isNull(),
-                                builder.equal(valuePath, "")));
-                        case NOT_EMPTY -> predicates.add(builder.and(
-                                valuePath.isNotNull(),
-                                builder.notEqual(valuePath, "")));
-                        case IN -> predicates.add(valuePath.in(Arrays.stream(value.split(",")).map(valueConverter).toList()));
-                        case NOT_IN -> predicates.add(valuePath.in(Arrays.stream(value.split(",")).map(valueConverter).toList()).not());
-                        case IS_BEFORE -> predicates.add(builder.lt(valuePath, Long.parseLong(value)));
-                        case IS_AFTER -> predicates.add(builder.gt(valuePath, Long.parseLong(value)));
-                        case IS_WITHIN -> {
-                            String[] dates = value.split(",");
-                            predicates.add(builder.between(valuePath, Long.parseLong(dates[0]), Long.parseLong(dates[1])));
-                        }
-                    }
-                }
+    // Predicates are combined with 'AND'
+    private List<Predicate> buildPredicates(
+            CriteriaBuilder builder,
+            Root<ActionLog> actionLog,
+            @Nullable Timestamp fromTime,
+            List<ActionLogFilterRequestDTO> filters
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (nonNull(fromTime)) {
+            predicates.add(builder.greaterThanOrEqualTo(actionLog.get(ACTION_TIME_COLUMN), fromTime));
+        }
+        removeRedundantFilters(filters);
+        for (ActionLogFilterRequestDTO filter : filters) {
+            ColumnMapping columnMapping = FILTER_ENTITY_COLUMN_MAPPING.get(filter.getColumn());
+            if (columnMapping == null) {
+                throw new ActionLogException("Filter column not found: " + filter.getColumn());
+            }
+            ConditionPredicateBuilder predicateBuilder = CONDITION_PREDICATE_BUILDERS.get(filter.getCondition());
+            if (predicateBuilder == null) {
+                throw new ActionLogException("Filter condition not supported: " + filter.getCondition());
             }
+            predicates.add(predicateBuilder.build(
+                    builder, columnMapping.getPath(actionLog), filter.getValue(), columnMapping.valueConverter));
         }
+        return predicates;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<FilterCondition, ConditionPredicateBuilder> buildConditionPredicateBuilders() {
+        Map<FilterCondition, ConditionPredicateBuilder> builders = new EnumMap<>(FilterCondition.class);
+        builders.put(FilterCondition.IS, (builder, path, value, converter) -> builder.equal(path, value));
+        builders.put(FilterCondition.IS_NOT, (builder, path, value, converter) -> builder.notEqual(path, value));
+        builders.put(FilterCondition.CONTAINS, (builder, path, value, converter) ->
+                builder.like(builder.lower((Path) path), "%" + value.toLowerCase() + "%"));
+        builders.put(FilterCondition.DOES_NOT_CONTAIN, (builder, path, value, converter) ->
+                builder.notLike(builder.lower((Path) path), "%" + value.toLowerCase() + "%"));
+        builders.put(FilterCondition.START_WITH, (builder, path, value, converter) ->
+                builder.like(builder.lower((Path) path), value.toLowerCase() + "%"));
+        builders.put(FilterCondition.ENDS_WITH, (builder, path, value, converter) ->
+                builder.like(builder.lower((Path) path), "%" + value.toLowerCase()));
+        builders.put(FilterCondition.EMPTY, (builder, path, value, converter) ->
+                builder.or(path.isNull(), builder.equal(path, "")));
+        builders.put(FilterCondition.NOT_EMPTY, (builder, path, value, converter) ->
+                builder.and(path.isNotNull(), builder.notEqual(path, "")));
+        builders.put(FilterCondition.IN, (builder, path, value, converter) ->
+                path.in(Arrays.stream(value.split(",")).map(converter).toList()));
+        builders.put(FilterCondition.NOT_IN, (builder, path, value, converter) ->
+                path.in(Arrays.stream(value.split(",")).map(converter).toList()).not());
+        builders.put(FilterCondition.IS_BEFORE, (builder, path, value, converter) ->
+                builder.lt((Path) path, Long.parseLong(value)));
+        builders.put(FilterCondition.IS_AFTER, (builder, path, value, converter) ->
+                builder.gt((Path) path, Long.parseLong(value)));
+        builders.put(FilterCondition.IS_WITHIN, (builder, path, value, converter) -> {
+            String[] dates = value.split(",");
+            return builder.between((Path) path, Long.parseLong(dates[0]), Long.parseLong(dates[1]));
+        });
+        return builders;
     }
 
     private void removeRedundantFilters(List<ActionLogFilterRequestDTO> filters) {
@@ -188,6 +293,31 @@ public class ActionLogFilterRepositoryImpl implements ActionLogFilterRepository
             }
         }
 
-        filters.removeAll(filtersToRemove);
+        if (!filtersToRemove.isEmpty()) {
+            filters.removeAll(filtersToRemove);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConditionPredicateBuilder {
+        Predicate build(CriteriaBuilder builder, Path<?> path, String value, Function<String, ?> valueConverter);
+    }
+
+    private static class ColumnMapping {
+        private final String[] path;
+        private final Function<String, ?> valueConverter;
+
+        ColumnMapping(String columnName, Function<String, ?> valueConverter) {
+            this.path = columnName.split("\\.");
+            this.valueConverter = valueConverter;
+        }
+
+        Path<?> getPath(Root<ActionLog> root) {
+            Path<?> valuePath = root;
+            for (String name : path) {
+                valuePath = valuePath.get(name);
+            }
+            return valuePath;
+        }
     }
 }
@@ -29,6 +29,7 @@ import java.util.List;
 public interface ActionLogRepository extends
         PagingAndSortingRepository<ActionLog, String>,
         ActionLogFilterRepository,
+        ActionLogBatchRepository,
         CrudRepository<ActionLog, String> {
     /**
      * Remove old records for scheduled cleanup task
@@ -43,5 +44,32 @@ public interface ActionLogRepository extends
     )
     void deleteAllOldRecordsByInterval(String olderThan);
 
+    /**
+     * @param olderThan interval string, for example: '1 hour', '7 days', '2 years 3 month'
+     * @return time before which records are expired
+     */
+    @Query(
+            nativeQuery = true,
+            value = "SELECT CAST(now() - CAST(:olderThan AS interval) AS timestamp)"
+    )
+    Timestamp getExpirationTime(String olderThan);
+
+    /**
+     * Remove up to the given number of the oldest records created before the given time
+     *
+     * @return number of removed records
+     */
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value = "DELETE FROM catalog.logged_actions act " +
+                    "WHERE act.id IN (" +
+                    "    SELECT old.id FROM catalog.logged_actions old " +
+                    "    WHERE old.action_time < :expirationTime " +
+                    "    ORDER BY old.action_time " +
+                    "    LIMIT :limit)"
+    )
+    int deleteOldRecordsChunk(Timestamp expirationTime, int limit);
+
     List<ActionLog> findAllByActionTimeBetween(Timestamp actionTimeFrom, Timestamp actionTimeTo);
 }
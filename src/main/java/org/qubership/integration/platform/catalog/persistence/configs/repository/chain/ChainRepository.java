@@ -26,6 +26,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 
 public interface ChainRepository extends CommonRepository<Chain>, JpaRepository<Chain, String>, JpaSpecificationExecutor<Chain> {
@@ -65,6 +66,8 @@ public interface ChainRepository extends CommonRepository<Chain>, JpaRepository<
     )
     List<Chain> findAllChainsToRootParentFolder(String folderId);
 
+    List<Chain> findAllByParentFolderIdIn(Collection<String> parentFolderIds);
+
     @Query(
             nativeQuery = true,
             value = """
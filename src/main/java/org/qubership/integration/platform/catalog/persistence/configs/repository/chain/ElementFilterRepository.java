@@ -19,9 +19,25 @@ package org.qubership.integration.platform.catalog.persistence.configs.repositor
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
+import org.qubership.integration.platform.catalog.model.chain.element.ChainElementSummary;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElementFilterRequestDTO;
 
 public interface ElementFilterRepository {
     List<ChainElement> findElementsByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly);
+
+    /**
+     * Same filtering as {@link #findElementsByFilter}, but selects only the element properties used by element search
+     * directly in SQL instead of loading whole elements.
+     */
+    List<ChainElementSummary> findElementSummariesByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly);
+
+    /**
+     * Keyset variant of {@link #findElementsByFilter}: returns up to {@code limit} elements ordered by id,
+     * starting right after {@code afterId}. Pass the id of the last element of the previous page,
+     * or {@code null} for the first page. The cost of a page does not depend on its depth.
+     */
+    List<ChainElement> findElementsByFilterAfter(@Nullable String afterId, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly);
 }
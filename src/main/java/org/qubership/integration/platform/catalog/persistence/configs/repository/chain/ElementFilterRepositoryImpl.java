@@ -16,12 +16,19 @@
 
 package org.qubership.integration.platform.catalog.persistence.configs.repository.chain;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.qubership.integration.platform.catalog.model.chain.element.ChainElementSummary;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElementFilterRequestDTO;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
 
+import javax.annotation.Nullable;
+
 import java.util.*;
 
 import org.qubership.integration.platform.catalog.model.filter.FilterCondition;
@@ -29,6 +36,7 @@ import org.qubership.integration.platform.catalog.model.filter.FilterCondition;
 
 public class ElementFilterRepositoryImpl implements ElementFilterRepository {
 
+    private static final String ID_ATTRIBUTE_NAME = "id";
     private static final String TYPE_ATTRIBUTE_NAME = "type";
     private static final String CHAIN_ATTRIBUTE_NAME = "chain";
     private static final String PROPERTIES_ATTRIBUTE = "properties";
@@ -44,6 +52,10 @@ public class ElementFilterRepositoryImpl implements ElementFilterRepository {
     private static final String EXTERNAL_ROUTE_PROPERTY = "externalRoute";
     private static final String INTEGRATION_OPERATION_PATH_PROPERTY = "integrationOperationPath";
     private static final String INTEGRATION_SPECIFICATION_ID = "integrationSpecificationId";
+    private static final String CHAIN_ID_ALIAS = "chainId";
+    private static final String CHAIN_NAME_ALIAS = "chainName";
+    private static final TypeReference<Map<String, Object>> PROPERTIES_TYPE = new TypeReference<>() {};
+    private static final ObjectMapper objectMapper = new ObjectMapper();
     private final static Set<String> PROPERTIES_FILTER = Set.of(ROLES_PROPERTY, CONTEXT_PATH_PROPERTY, PRIVATE_ROUTE_PROPERTY, EXTERNAL_ROUTE_PROPERTY, INTEGRATION_OPERATION_PATH_PROPERTY, INTEGRATION_SPECIFICATION_ID);
 
     @PersistenceContext
@@ -52,27 +64,38 @@ public class ElementFilterRepositoryImpl implements ElementFilterRepository {
     @Override
     public List<ChainElement> findElementsByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<ChainElement> query = buildFilterQuery(builder, types, filters);
+        CriteriaQuery<ChainElement> query = buildFilterQuery(builder, types, filters, isImplementedOnly, null);
         List<ChainElement> resultList = entityManager.createQuery(query)
                 .setFirstResult(offset)
                 .setMaxResults(limit)
                 .getResultList();
 
-        if (isImplementedOnly) {
-            resultList = filterImplementedServices(resultList);
-        }
         filterElementProperties(resultList, isImplementedOnly);
         return resultList;
     }
 
-    private List<ChainElement> filterImplementedServices(List<ChainElement> elementList) {
-        List<ChainElement> filteredChainList = new ArrayList<>();
-        elementList.forEach(chainElement -> {
-            if (IMPLEMENTED_SERVICE_TYPE.equals(chainElement.getProperty(SYSTEM_TYPE_PROPERTY))) {
-                filteredChainList.add(chainElement);
-            }
-        });
-        return filteredChainList;
+    @Override
+    public List<ChainElementSummary> findElementSummariesByFilter(int offset, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = buildSummaryQuery(builder, types, filters, isImplementedOnly);
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(this::toElementSummary)
+                .toList();
+    }
+
+    @Override
+    public List<ChainElement> findElementsByFilterAfter(@Nullable String afterId, int limit, List<String> types, List<ChainElementFilterRequestDTO> filters, boolean isImplementedOnly) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ChainElement> query = buildFilterQuery(builder, types, filters, isImplementedOnly, afterId);
+        List<ChainElement> resultList = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+
+        filterElementProperties(resultList, isImplementedOnly);
+        return resultList;
     }
 
     private void filterElementProperties(List<ChainElement> elementList, boolean isImplementedOnly) {
@@ -87,27 +110,112 @@ public class ElementFilterRepositoryImpl implements ElementFilterRepository {
         });
     }
 
-    private CriteriaQuery<ChainElement> buildFilterQuery(CriteriaBuilder builder, List<String> types, List<ChainElementFilterRequestDTO> filters) {
+    private CriteriaQuery<ChainElement> buildFilterQuery(
+            CriteriaBuilder builder,
+            List<String> types,
+            List<ChainElementFilterRequestDTO> filters,
+            boolean isImplementedOnly,
+            @Nullable String afterId
+    ) {
         CriteriaQuery<ChainElement> query = builder.createQuery(ChainElement.class);
         Root<ChainElement> chainElementRoot = query.from(ChainElement.class);
+
+        // A stable order is required for both offset and keyset pages to be consistent
+        return query.select(chainElementRoot)
+                .where(buildFilterPredicate(builder, chainElementRoot, types, filters, isImplementedOnly, afterId))
+                .orderBy(builder.asc(chainElementRoot.get(ID_ATTRIBUTE_NAME)));
+    }
+
+    private CriteriaQuery<Tuple> buildSummaryQuery(
+            CriteriaBuilder builder,
+            List<String> types,
+            List<ChainElementFilterRequestDTO> filters,
+            boolean isImplementedOnly
+    ) {
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<ChainElement> chainElementRoot = query.from(ChainElement.class);
+        Join<Object, Object> chainJoin = chainElementRoot.join(CHAIN_ATTRIBUTE_NAME);
+
+        return query.multiselect(
+                        chainElementRoot.get(ID_ATTRIBUTE_NAME).alias(ID_ATTRIBUTE_NAME),
+                        chainElementRoot.get(NAME_PROPERTY).alias(NAME_PROPERTY),
+                        chainElementRoot.get(TYPE_ATTRIBUTE_NAME).alias(TYPE_ATTRIBUTE_NAME),
+                        chainJoin.get(ID_ATTRIBUTE_NAME).alias(CHAIN_ID_ALIAS),
+                        chainJoin.get(NAME_PROPERTY).alias(CHAIN_NAME_ALIAS),
+                        getFilteredPropertiesExpression(builder, chainElementRoot).alias(PROPERTIES_ATTRIBUTE)
+                )
+                .where(buildFilterPredicate(builder, chainElementRoot, types, filters, isImplementedOnly, null))
+                .orderBy(builder.asc(chainElementRoot.get(ID_ATTRIBUTE_NAME)));
+    }
+
+    private Predicate buildFilterPredicate(
+            CriteriaBuilder builder,
+            Root<ChainElement> chainElementRoot,
+            List<String> types,
+            List<ChainElementFilterRequestDTO> filters,
+            boolean isImplementedOnly,
+            @Nullable String afterId
+    ) {
         List<Predicate> predicates = new LinkedList<>(); // combined with 'AND'
 
         removeRedundantFilters(filters);
         addPermanentFiltersToQuery(builder, types, chainElementRoot, predicates);
         addRequestFiltersToQuery(builder, filters, chainElementRoot, predicates);
+        if (isImplementedOnly) {
+            predicates.add(builder.equal(
+                    getJsonPropertyStringExpression(builder, chainElementRoot, SYSTEM_TYPE_PROPERTY, false),
+                    IMPLEMENTED_SERVICE_TYPE
+            ));
+        }
+        if (afterId != null) {
+            // Seek to the last element of the previous page, the primary key index serves both the filter and the order
+            predicates.add(builder.greaterThan(chainElementRoot.get(ID_ATTRIBUTE_NAME), afterId));
+        }
 
-        query.select(chainElementRoot);
-
-        Predicate finalPredicate = builder.and(
+        return builder.and(
                 predicates.stream()
                         .filter(Objects::nonNull)
                         .toList()
                         .toArray(new Predicate[0])
         );
+    }
 
-        return (!predicates.isEmpty() ?
-                query.where(finalPredicate) :
-                query);
+    /**
+     * Builds {@code jsonb_strip_nulls(jsonb_build_object('key', properties -> 'key', ...))} over {@link #PROPERTIES_FILTER},
+     * so only the properties required for element search leave the database.
+     */
+    private Expression<String> getFilteredPropertiesExpression(CriteriaBuilder builder, Root<ChainElement> chainElementRoot) {
+        List<Expression<?>> arguments = new ArrayList<>();
+        for (String propertyName : PROPERTIES_FILTER) {
+            arguments.add(builder.literal(propertyName));
+            arguments.add(builder.function(
+                    "jsonb_extract_path",
+                    Object.class,
+                    chainElementRoot.get(PROPERTIES_ATTRIBUTE),
+                    builder.literal(propertyName)
+            ));
+        }
+        return builder.function(
+                "jsonb_strip_nulls",
+                String.class,
+                builder.function("jsonb_build_object", Object.class, arguments.toArray(new Expression<?>[0]))
+        );
+    }
+
+    private ChainElementSummary toElementSummary(Tuple tuple) {
+        String properties = tuple.get(PROPERTIES_ATTRIBUTE, String.class);
+        try {
+            return ChainElementSummary.builder()
+                    .id(tuple.get(ID_ATTRIBUTE_NAME, String.class))
+                    .name(tuple.get(NAME_PROPERTY, String.class))
+                    .type(tuple.get(TYPE_ATTRIBUTE_NAME, String.class))
+                    .chainId(tuple.get(CHAIN_ID_ALIAS, String.class))
+                    .chainName(tuple.get(CHAIN_NAME_ALIAS, String.class))
+                    .properties(properties == null ? new HashMap<>() : objectMapper.readValue(properties, PROPERTIES_TYPE))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read properties of element " + tuple.get(ID_ATTRIBUTE_NAME, String.class), e);
+        }
     }
 
     private void addPermanentFiltersToQuery(CriteriaBuilder builder, List<String> types, Root<ChainElement> chainElementRoot, List<Predicate> predicates) {
@@ -129,6 +237,10 @@ public class ElementFilterRepositoryImpl implements ElementFilterRepository {
                 case TYPE -> predicates.add(getTypePredicate(builder, filter, chainElementRoot));
                 case ROLES -> predicates.add(getRolesPredicate(builder, filter, chainElementRoot));
                 case CHAIN -> predicates.add(getChainPredicate(builder, filter, chainElementRoot));
+                case SYSTEM_ID -> predicates.add(getSearchPropertyPredicate(builder, filter, chainElementRoot, ElementSearchProperty.SYSTEM_ID));
+                case OPERATION_ID -> predicates.add(getSearchPropertyPredicate(builder, filter, chainElementRoot, ElementSearchProperty.OPERATION_ID));
+                case TOPICS -> predicates.add(getSearchPropertyPredicate(builder, filter, chainElementRoot, ElementSearchProperty.TOPICS));
+                case QUEUES -> predicates.add(getSearchPropertyPredicate(builder, filter, chainElementRoot, ElementSearchProperty.QUEUES));
             }
         }
     }
@@ -192,6 +304,28 @@ public class ElementFilterRepositoryImpl implements ElementFilterRepository {
         return chainPredicate;
     }
 
+    private Predicate getSearchPropertyPredicate(
+            CriteriaBuilder builder,
+            ChainElementFilterRequestDTO filter,
+            Root<ChainElement> chainElementRoot,
+            ElementSearchProperty property
+    ) {
+        Expression<String> expression = getJsonPropertyStringExpression(builder, chainElementRoot, property.getPropertyName(), true);
+        Predicate propertyPredicate = null;
+        switch (filter.getCondition()) {
+            case IS -> propertyPredicate = builder.equal(expression, filter.getValue().toLowerCase());
+            case IS_NOT -> propertyPredicate = builder.equal(expression, filter.getValue().toLowerCase()).not();
+            case CONTAINS -> propertyPredicate = builder.like(expression, "%" + filter.getValue().toLowerCase() + "%");
+            case DOES_NOT_CONTAIN ->
+                    propertyPredicate = builder.like(expression, "%" + filter.getValue().toLowerCase() + "%").not();
+            case START_WITH -> propertyPredicate = builder.like(expression, filter.getValue().toLowerCase() + "%");
+            case ENDS_WITH -> propertyPredicate = builder.like(expression, "%" + filter.getValue().toLowerCase());
+            case EMPTY -> propertyPredicate = builder.isNull(expression);
+            case NOT_EMPTY -> propertyPredicate = builder.isNotNull(expression);
+        }
+        return propertyPredicate;
+    }
+
     private Predicate getIsEndpointPredicate(CriteriaBuilder builder, Root<ChainElement> chainElementRoot, String filterValue) {
         //Based on type (regular | implemented service) endpoint can be stored in different properties
         Expression<String> endpointTypeExpression = getJsonPropertyStringExpression(builder, chainElementRoot, SYSTEM_TYPE_PROPERTY, false);
@@ -212,8 +346,8 @@ public class ElementFilterRepositoryImpl implements ElementFilterRepository {
     private Predicate getLikeEndpointPredicate(CriteriaBuilder builder, Root<ChainElement> chainElementRoot, String filterValue) {
         //Based on type endpoint can be stored in different properties
         Expression<String> endpointTypeExpression = getJsonPropertyStringExpression(builder, chainElementRoot, SYSTEM_TYPE_PROPERTY, false);
-        Expression<String> defaultEndpointExpression = getJsonPropertyStringExpression(builder, chainElementRoot, CONTEXT_PATH_PROPERTY, false);
-        Expression<String> typedEndpointExpression = getJsonPropertyStringExpression(builder, chainElementRoot, INTEGRATION_OPERATION_PATH_PROPERTY, false);
+        Expression<String> defaultEndpointExpression = getJsonPropertyStringExpression(builder, chainElementRoot, CONTEXT_PATH_PROPERTY, true);
+        Expression<String> typedEndpointExpression = getJsonPropertyStringExpression(builder, chainElementRoot, INTEGRATION_OPERATION_PATH_PROPERTY, true);
 
         Predicate defaultEndpointTypePredicate = builder.isNull(endpointTypeExpression);
         Predicate typedEndpointTypePredicate = builder.isNotNull(endpointTypeExpression);
@@ -295,13 +429,19 @@ public class ElementFilterRepositoryImpl implements ElementFilterRepository {
     }
 
     private Expression<String> getJsonPropertyStringExpression(CriteriaBuilder builder, Root<ChainElement> chainElementRoot, String propertyName, Boolean isCaseSensitive) {
-        Expression<String> propertyStringExpression =
-                builder.function(
+        // Frequently searched properties are rendered with an inlined key to match their expression indexes
+        Expression<String> propertyStringExpression = ElementSearchProperty.fromPropertyName(propertyName)
+                .map(property -> builder.function(
+                        property.getFunctionName(),
+                        String.class,
+                        chainElementRoot.get(PROPERTIES_ATTRIBUTE)
+                ))
+                .orElseGet(() -> builder.function(
                         "jsonb_extract_path_text",
                         String.class,
                         chainElementRoot.get(PROPERTIES_ATTRIBUTE),
                         builder.literal(propertyName)
-                );
+                ));
         return isCaseSensitive ? builder.lower(propertyStringExpression) : propertyStringExpression;
     }
 
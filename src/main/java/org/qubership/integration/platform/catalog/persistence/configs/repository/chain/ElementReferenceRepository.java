@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.chain;
+
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ElementReference;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ElementReferenceType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ElementReferenceRepository extends JpaRepository<ElementReference, String> {
+
+    /**
+     * Element existence is checked as well, so references left behind by bulk deletes are ignored.
+     */
+    @Query("""
+        SELECT COUNT(r) > 0
+        FROM element_references r
+        WHERE r.referenceType = :referenceType
+            AND r.referencedId = :referencedId
+            AND EXISTS (SELECT 1 FROM elements e WHERE e.id = r.elementId AND e.chain IS NOT NULL)""")
+    boolean existsReference(ElementReferenceType referenceType, String referencedId);
+
+    /**
+     * @return rows of referenced id and the number of elements referencing it
+     */
+    @Query("""
+        SELECT r.referencedId, COUNT(r)
+        FROM element_references r
+        WHERE r.referenceType = :referenceType
+            AND r.referencedId IN :referencedIds
+            AND EXISTS (SELECT 1 FROM elements e WHERE e.id = r.elementId AND e.chain IS NOT NULL)
+        GROUP BY r.referencedId""")
+    List<Object[]> countReferences(ElementReferenceType referenceType, Collection<String> referencedIds);
+
+    @Modifying
+    @Query("DELETE FROM element_references")
+    void deleteAllReferences();
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value = """
+                INSERT INTO catalog.element_references (id, reference_type, referenced_id, element_id, chain_id)
+                SELECT :referenceType || ':' || e.id, :referenceType, e.properties ->> :propertyName, e.id, e.chain_id
+                FROM catalog.elements e
+                WHERE e.chain_id IS NOT NULL
+                    AND e.properties ->> :propertyName IS NOT NULL""")
+    int insertReferencesFromElements(String referenceType, String propertyName);
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.chain;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers a SQL function for each {@link ElementSearchProperty}.
+ * Discovered by Hibernate through {@code META-INF/services}.
+ */
+public class ElementSearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<String> stringType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.STRING);
+        for (ElementSearchProperty property : ElementSearchProperty.values()) {
+            functionContributions.getFunctionRegistry()
+                    .patternDescriptorBuilder(property.getFunctionName(), property.getSqlExpression("?1"))
+                    .setInvariantType(stringType)
+                    .setExactArgumentCount(1)
+                    .register();
+        }
+    }
+}
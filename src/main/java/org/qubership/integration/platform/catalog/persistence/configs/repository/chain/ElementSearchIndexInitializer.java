@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.chain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the trigram indexes backing element property search, see {@link ElementSearchProperty}.
+ * Disabled by default: services managing the schema with migrations should apply
+ * {@link #getIndexDefinitions()} there instead.
+ * <p>
+ * Indexes are built concurrently, so the statements run on a plain autocommit connection
+ * outside of any transaction and do not block writes to the elements table. A failed concurrent build
+ * leaves an invalid index behind, which has to be dropped before the next attempt.
+ */
+@Slf4j
+@Component
+public class ElementSearchIndexInitializer {
+    private static final String ELEMENTS_TABLE = "catalog.elements";
+    private static final String CREATE_TRIGRAM_EXTENSION = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+    private final DataSource dataSource;
+    private final boolean createIndexes;
+
+    @Autowired
+    public ElementSearchIndexInitializer(
+            DataSource dataSource,
+            @Value("${qip.element-search.create-indexes:false}") boolean createIndexes
+    ) {
+        this.dataSource = dataSource;
+        this.createIndexes = createIndexes;
+    }
+
+    public List<String> getIndexDefinitions() {
+        List<String> statements = new ArrayList<>();
+        statements.add(CREATE_TRIGRAM_EXTENSION);
+        for (ElementSearchProperty property : ElementSearchProperty.values()) {
+            statements.add(property.getIndexDefinition(ELEMENTS_TABLE));
+        }
+        return statements;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!createIndexes) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            // Every statement commits on its own, so one failure does not abort the rest
+            for (String statement : getIndexDefinitions()) {
+                try (Statement jdbcStatement = connection.createStatement()) {
+                    jdbcStatement.execute(statement);
+                    log.debug("Executed element search index statement: {}", statement);
+                } catch (SQLException e) {
+                    log.warn("Failed to execute element search index statement: {}", statement, e);
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to obtain a connection to create element search indexes", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.chain;
+
+import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Frequently searched element properties.
+ * <p>
+ * Each property is exposed to queries as a registered SQL function rendering
+ * {@code (properties ->> 'key')} with the key inlined, so that predicates built on it
+ * match the expression indexes created by {@link #getIndexDefinition(String)}.
+ * A property name is never bound as a query parameter, otherwise PostgreSQL could not use the index.
+ */
+public enum ElementSearchProperty {
+    CONTEXT_PATH(CamelOptions.CONTEXT_PATH),
+    OPERATION_PATH(CamelOptions.OPERATION_PATH),
+    SYSTEM_ID(CamelOptions.SYSTEM_ID),
+    OPERATION_ID(CamelOptions.OPERATION_ID),
+    TOPICS(CamelOptions.TOPICS),
+    QUEUES(CamelOptions.QUEUES);
+
+    private static final String FUNCTION_NAME_PREFIX = "qip_element_";
+    private static final String INDEX_NAME_PREFIX = "elements_search_";
+    private static final Map<String, ElementSearchProperty> BY_PROPERTY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ElementSearchProperty::getPropertyName, Function.identity()));
+
+    private final String propertyName;
+
+    ElementSearchProperty(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    public String getFunctionName() {
+        return FUNCTION_NAME_PREFIX + name().toLowerCase();
+    }
+
+    /**
+     * @param column - SQL expression of the properties column or a Hibernate pattern placeholder
+     */
+    public String getSqlExpression(String column) {
+        return "(" + column + " ->> '" + propertyName + "')";
+    }
+
+    /**
+     * Trigram index over the lower-cased property value. It serves {@code LIKE} with any wildcard position
+     * and equality, both of which are applied to the lower-cased value by {@link ElementFilterRepositoryImpl}.
+     *
+     * @param table - qualified elements table name
+     */
+    public String getIndexDefinition(String table) {
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + INDEX_NAME_PREFIX + name().toLowerCase() + "_trgm_idx"
+                + " ON " + table + " USING gin (lower" + getSqlExpression("properties") + " gin_trgm_ops)";
+    }
+
+    public static Optional<ElementSearchProperty> fromPropertyName(String propertyName) {
+        return Optional.ofNullable(BY_PROPERTY_NAME.get(propertyName));
+    }
+}
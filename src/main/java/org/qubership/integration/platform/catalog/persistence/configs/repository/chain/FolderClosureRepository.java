@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.chain;
+
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.FolderClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FolderClosureRepository extends JpaRepository<FolderClosure, FolderClosure.FolderClosureId> {
+
+    /**
+     * @return ids of the given folders and all their ancestors
+     */
+    @Query("SELECT DISTINCT c.ancestorId FROM folder_closure c WHERE c.descendantId IN :folderIds")
+    List<String> findAncestorIds(Collection<String> folderIds);
+
+    /**
+     * @return ids of all folders nested in the given one, excluding the folder itself
+     */
+    @Query("SELECT c.descendantId FROM folder_closure c WHERE c.ancestorId = :folderId AND c.depth > 0")
+    List<String> findDescendantIds(String folderId);
+
+    @Modifying
+    @Query("DELETE FROM folder_closure")
+    void deleteAllLinks();
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value = """
+                INSERT INTO catalog.folder_closure (ancestor_id, descendant_id, depth)
+                WITH RECURSIVE closure AS (
+                    SELECT f.id AS ancestor_id, f.id AS descendant_id, 0 AS depth
+                    FROM catalog.folders f
+
+                    UNION ALL
+
+                    SELECT c.ancestor_id, f.id, c.depth + 1
+                    FROM closure c
+                        INNER JOIN catalog.folders f ON f.parent_folder_id = c.descendant_id
+                )
+                SELECT ancestor_id, descendant_id, depth FROM closure""")
+    int insertLinksFromFolders();
+
+    @Query(nativeQuery = true, value = "SELECT version FROM catalog.folder_hierarchy_version WHERE id = 1")
+    Optional<Long> findHierarchyVersion();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE catalog.folder_hierarchy_version SET version = version + 1 WHERE id = 1")
+    void incrementHierarchyVersion();
+}
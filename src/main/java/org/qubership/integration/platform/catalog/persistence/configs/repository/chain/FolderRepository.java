@@ -21,6 +21,7 @@ import org.qubership.integration.platform.catalog.persistence.configs.repository
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FolderRepository extends CommonRepository<Folder>, JpaRepository<Folder, String> {
@@ -34,6 +35,14 @@ public interface FolderRepository extends CommonRepository<Folder>, JpaRepositor
 
     List<Folder> findAllByParentFolderEquals(Folder folder);
 
+    List<Folder> findAllByIdInOrParentFolderIdIn(Collection<String> ids, Collection<String> parentFolderIds);
+
+    /**
+     * @return rows of folder id and parent folder id
+     */
+    @Query("SELECT f.id, p.id FROM folders f LEFT JOIN f.parentFolder p")
+    List<Object[]> findAllParentLinks();
+
     @Query(nativeQuery = true,
      value = "WITH RECURSIVE folder_hierarchy AS (\n" +
              "        SELECT\n" +
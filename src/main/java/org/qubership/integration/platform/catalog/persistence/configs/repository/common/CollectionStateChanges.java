@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.common;
+
+import lombok.Getter;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.EntityIdentity;
+
+import java.util.*;
+
+/**
+ * Operations turning the current state of an entity collection into the new one.
+ * <p>
+ * Both collections are indexed once, by {@link EntityIdentity#identityKey()} when all entities provide it,
+ * otherwise in a sorted set ordered by {@link EntityComparator}. Matching is linear in the first case.
+ */
+@Getter
+class CollectionStateChanges<S> {
+    /**
+     * Current entities present in the new state, replaced by {@link #toMerge}.
+     */
+    private final List<S> toDetach = new ArrayList<>();
+    /**
+     * Current entities absent from the new state.
+     */
+    private final List<S> toRemove = new ArrayList<>();
+    /**
+     * New entities absent from the current state.
+     */
+    private final List<S> toPersist = new ArrayList<>();
+    /**
+     * New entities present in the current state.
+     */
+    private final List<S> toMerge = new ArrayList<>();
+
+    static <S> CollectionStateChanges<S> of(Iterable<S> currentStates, Iterable<S> newStates) {
+        CollectionStateChanges<S> changes = new CollectionStateChanges<>();
+        boolean hashed = hasIdentityKeys(currentStates) && hasIdentityKeys(newStates);
+        Set<Object> currentKeys = index(currentStates, hashed);
+        Set<Object> newKeys = index(newStates, hashed);
+
+        for (S currentState : currentStates) {
+            (newKeys.contains(keyOf(currentState, hashed)) ? changes.toDetach : changes.toRemove).add(currentState);
+        }
+        for (S newState : newStates) {
+            (currentKeys.contains(keyOf(newState, hashed)) ? changes.toMerge : changes.toPersist).add(newState);
+        }
+        return changes;
+    }
+
+    private static boolean hasIdentityKeys(Iterable<?> entities) {
+        for (Object entity : entities) {
+            if (!(entity instanceof EntityIdentity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Object> index(Iterable<?> entities, boolean hashed) {
+        Set<Object> keys = hashed ? new HashSet<>() : new TreeSet<>(new EntityComparator());
+        for (Object entity : entities) {
+            keys.add(keyOf(entity, hashed));
+        }
+        return keys;
+    }
+
+    private static Object keyOf(Object entity, boolean hashed) {
+        return hashed ? ((EntityIdentity) entity).identityKey() : entity;
+    }
+}
@@ -21,13 +21,6 @@ import org.springframework.stereotype.Repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
-import java.util.Comparator;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
-
 @Repository
 class CommonRepositoryImpl<T> implements CommonRepository<T> {
 
@@ -80,53 +73,23 @@ class CommonRepositoryImpl<T> implements CommonRepository<T> {
 
     @Override
     public <S extends T> void actualizeCollectionState(Iterable<S> currentStates, Iterable<S> newStates) {
-        actualizeCollectionStateWOUpdates(currentStates, newStates);
-        actualizeCollectionStateOnlyUpdates(currentStates, newStates);
+        CollectionStateChanges<S> changes = CollectionStateChanges.of(currentStates, newStates);
+        applyChangesWOUpdates(changes);
+        changes.getToMerge().forEach(this::merge);
     }
 
     public <S extends T> void actualizeCollectionStateWOUpdates(Iterable<S> currentStates, Iterable<S> newStates) {
-        Supplier<Stream<S>> currentStatesSupplier = () -> StreamSupport.stream(currentStates.spliterator(), false);
-        Supplier<Stream<S>> newStatesSupplier = () -> StreamSupport.stream(newStates.spliterator(), false);
-
-        Comparator<S> entityMatcher = getComparator();
-
-        Iterable<S> entitiesToDetach = getFilteredEntities(currentStatesSupplier, newStatesSupplier, entityMatcher, true);
-        Iterable<S> entitiesToRemove = getFilteredEntities(currentStatesSupplier, newStatesSupplier, entityMatcher, false);
-        Iterable<S> entitiesToPersist = getFilteredEntities(newStatesSupplier, currentStatesSupplier, entityMatcher, false);
-
-        entitiesToDetach.forEach(this::detach);
-        entitiesToRemove.forEach(this::remove);
-        entitiesToPersist.forEach(this::persist);
+        applyChangesWOUpdates(CollectionStateChanges.of(currentStates, newStates));
     }
 
     public <S extends T> void actualizeCollectionStateOnlyUpdates(Iterable<S> currentStates, Iterable<S> newStates) {
-        Supplier<Stream<S>> currentStatesSupplier = () -> StreamSupport.stream(currentStates.spliterator(), false);
-        Supplier<Stream<S>> newStatesSupplier = () -> StreamSupport.stream(newStates.spliterator(), false);
-
-        Comparator<S> entityMatcher = getComparator();
-
-        Iterable<S> entitiesToMerge = getFilteredEntities(newStatesSupplier, currentStatesSupplier, entityMatcher, true);
-
-        entitiesToMerge.forEach(this::merge);
-    }
-
-    private <S extends T> Iterable<S> getFilteredEntities(Supplier<Stream<S>> entitiesToBeFiltered, Supplier<Stream<S>> entitiesAsFilter, Comparator<S> filterEntityMatcher, boolean isMatched) {
-        Predicate<? super S> filterPredicate = isMatched ?
-                (entityToBeFiltered) -> entitiesAsFilter
-                        .get()
-                        .anyMatch(entityAsFilter -> filterEntityMatcher.compare(entityToBeFiltered, entityAsFilter) == 0)
-                :
-                (entityToBeFiltered) -> entitiesAsFilter
-                        .get()
-                        .noneMatch(entityAsFilter -> filterEntityMatcher.compare(entityToBeFiltered, entityAsFilter) == 0);
-
-        return entitiesToBeFiltered
-                .get()
-                .filter(filterPredicate)
-                .collect(Collectors.toList());
+        CollectionStateChanges.of(currentStates, newStates).getToMerge().forEach(this::merge);
     }
 
-    private EntityComparator getComparator() {
-        return new EntityComparator();
+    // Operations are grouped by type, so statements of the same kind are batched at flush
+    private <S extends T> void applyChangesWOUpdates(CollectionStateChanges<S> changes) {
+        changes.getToDetach().forEach(this::detach);
+        changes.getToRemove().forEach(this::remove);
+        changes.getToPersist().forEach(this::persist);
     }
 }
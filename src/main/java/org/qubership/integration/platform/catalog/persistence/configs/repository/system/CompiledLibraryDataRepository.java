@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.system;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import org.qubership.integration.platform.catalog.persistence.configs.entity.system.CompiledLibraryData;
+
+public interface CompiledLibraryDataRepository extends JpaRepository<CompiledLibraryData, String> {
+    /**
+     * Stores the jar unless another transaction has already stored one with the same digest.
+     */
+    @Modifying
+    @Query(nativeQuery = true,
+            value = """
+                INSERT INTO catalog.compiled_library_data (source_hash, data)
+                VALUES (:sourceHash, :data)
+                ON CONFLICT (source_hash) DO NOTHING""")
+    void insertIfAbsent(String sourceHash, byte[] data);
+
+    @Modifying
+    @Query(nativeQuery = true,
+            value = """
+                DELETE FROM catalog.compiled_library_data d
+                WHERE d.source_hash = :sourceHash
+                    AND NOT EXISTS (SELECT 1 FROM catalog.compiled_libraries l WHERE l.source_hash = d.source_hash)""")
+    void deleteIfUnreferenced(String sourceHash);
+}
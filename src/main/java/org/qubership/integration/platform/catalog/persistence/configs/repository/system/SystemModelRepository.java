@@ -27,6 +27,9 @@ import java.util.List;
 public interface SystemModelRepository extends JpaRepository<SystemModel, String> {
     List<SystemModel> findSystemModelsBySpecificationGroupSystemId(String systemId);
 
+    @Query("select model.id from SystemModel model where model.specificationGroup.system.id = :systemId")
+    List<String> findSystemModelIdsBySpecificationGroupSystemId(String systemId);
+
     SystemModel findFirstBySpecificationGroupIdAndSourceEqualsOrderByCreatedWhenDesc(String specificationGroupId, SystemModelSource source);
 
     SystemModel findFirstBySpecificationGroupSystemIdOrderByCreatedWhenDesc(String systemId);
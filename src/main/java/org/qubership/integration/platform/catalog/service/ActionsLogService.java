@@ -17,41 +17,59 @@
 package org.qubership.integration.platform.catalog.service;
 
 import org.qubership.integration.platform.catalog.exception.InvalidEnumConstantException;
+import org.qubership.integration.platform.catalog.model.actionlog.ActionLogPage;
+import org.qubership.integration.platform.catalog.model.dto.actionlog.ActionLogCountMode;
+import org.qubership.integration.platform.catalog.model.dto.actionlog.ActionLogFilterRequestDTO;
+import org.qubership.integration.platform.catalog.model.dto.actionlog.ActionLogPageRequest;
 import org.qubership.integration.platform.catalog.model.dto.actionlog.ActionLogSearchCriteria;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.User;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.actionlog.ActionLogRepository;
+import org.qubership.integration.platform.catalog.service.actionlog.ActionLogRetentionService;
+import org.qubership.integration.platform.catalog.service.actionlog.ActionLogWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import org.qubership.integration.platform.catalog.context.RequestIdContext;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Slf4j
 @Service
 public class ActionsLogService {
     private final ActionLogRepository actionLogRepository;
     private final AuditorAware<User> auditor;
-
-    private final BlockingQueue<ActionLog> queue = new LinkedBlockingQueue<>();
+    private final ActionLogWriter actionLogWriter;
+    private final ActionLogRetentionService actionLogRetentionService;
+    private final int maxPageSize;
+    private final int countWindow;
 
     @Autowired
-    public ActionsLogService(ActionLogRepository actionLogRepository, AuditorAware<User> auditor) {
+    public ActionsLogService(
+            ActionLogRepository actionLogRepository,
+            AuditorAware<User> auditor,
+            ActionLogWriter actionLogWriter,
+            ActionLogRetentionService actionLogRetentionService,
+            @Value("${qip.action-log.query.max-page-size:1000}") int maxPageSize,
+            @Value("${qip.action-log.query.count-window:10000}") int countWindow
+    ) {
         this.actionLogRepository = actionLogRepository;
         this.auditor = auditor;
-        new ActionWriterThread(actionLogRepository, queue).start();
+        this.actionLogWriter = actionLogWriter;
+        this.actionLogRetentionService = actionLogRetentionService;
+        this.maxPageSize = maxPageSize;
+        this.countWindow = countWindow;
     }
 
     public Pair<Long, List<ActionLog>> findBySearchRequest(ActionLogSearchCriteria request) {
@@ -72,6 +90,67 @@ public class ActionsLogService {
         }
     }
 
+    /**
+     * Returns a page of action logs using keyset pagination on action time and id,
+     * so the cost of a page does not depend on how far it is from the start.
+     */
+    public ActionLogPage findPage(ActionLogPageRequest request) {
+        int limit = Math.min(Math.max(request.getLimit(), 1), maxPageSize);
+        Timestamp fromTime = nonNull(request.getFromTime()) ? new Timestamp(request.getFromTime()) : null;
+        Timestamp afterTime = nonNull(request.getAfterActionTime()) ? new Timestamp(request.getAfterActionTime()) : null;
+        List<ActionLogFilterRequestDTO> filters = new ArrayList<>(request.getFilters());
+        try {
+            // One extra record tells whether there is a next page
+            List<ActionLog> actionLogs = actionLogRepository.findActionLogsPage(
+                    fromTime, afterTime, request.getAfterId(), limit + 1, filters);
+            ActionLogPage.ActionLogPageBuilder page = ActionLogPage.builder();
+            if (actionLogs.size() > limit) {
+                actionLogs = actionLogs.subList(0, limit);
+                ActionLog last = actionLogs.get(limit - 1);
+                page.nextActionTime(last.getActionTime()).nextId(last.getId());
+            }
+            page.actionLogs(actionLogs);
+            countActionLogs(request.getCountMode(), fromTime, filters, page);
+            return page.build();
+        } catch (InvalidEnumConstantException e) {
+            log.debug(e.getMessage());
+            return ActionLogPage.builder().actionLogs(Collections.emptyList()).build();
+        }
+    }
+
+    private void countActionLogs(
+            ActionLogCountMode countMode,
+            Timestamp fromTime,
+            List<ActionLogFilterRequestDTO> filters,
+            ActionLogPage.ActionLogPageBuilder page
+    ) {
+        if (isNull(countMode)) {
+            return;
+        }
+        switch (countMode) {
+            case NONE -> { }
+            case EXACT -> page.totalCount(actionLogRepository.countActionLogs(fromTime, filters, 0)).totalCountExact(true);
+            case APPROXIMATE -> {
+                long estimate = isNull(fromTime) && filters.isEmpty() ? actionLogRepository.estimateActionLogsCount() : -1;
+                if (estimate >= 0) {
+                    page.totalCount(estimate).totalCountExact(false);
+                } else {
+                    countActionLogsWindowed(fromTime, filters, page);
+                }
+            }
+            case WINDOWED -> countActionLogsWindowed(fromTime, filters, page);
+        }
+    }
+
+    private void countActionLogsWindowed(
+            Timestamp fromTime,
+            List<ActionLogFilterRequestDTO> filters,
+            ActionLogPage.ActionLogPageBuilder page
+    ) {
+        long count = actionLogRepository.countActionLogs(fromTime, filters, countWindow + 1);
+        page.totalCount(Math.min(count, countWindow)).totalCountExact(count <= countWindow);
+    }
+
     public List<ActionLog> findAllByActionTimeBetween(Timestamp actionTimeFrom, Timestamp actionTimeTo) {
         return actionLogRepository.findAllByActionTimeBetween(actionTimeFrom, actionTimeTo);
     }
@@ -81,11 +160,7 @@ public class ActionsLogService {
         injectRequestId(action);
         try {
             consoleLogAction(action);
-            if (!queue.offer(action)) {
-                log.error("Queue of actions is full, element is not added, {}", action);
-                return false;
-            }
-            return true;
+            return actionLogWriter.submit(action);
         } catch (Exception e) {
             log.error("Failed to save action log to database: {}", action, e);
         }
@@ -100,44 +175,11 @@ public class ActionsLogService {
         auditor.getCurrentAuditor().ifPresent(action::setUser);
     }
 
-    @Transactional
+    /**
+     * Removes expired records in chunks, each committed separately, see {@link ActionLogRetentionService}.
+     */
     public void deleteAllOldRecordsByInterval(String olderThan) {
-        actionLogRepository.deleteAllOldRecordsByInterval(olderThan);
-    }
-
-    private static class ActionWriterThread extends Thread {
-        private final ActionLogRepository actionLogRepository;
-        private final BlockingQueue<ActionLog> queue;
-        private final List<ActionLog> actionsToSave = new ArrayList<>();
-
-
-        public ActionWriterThread(ActionLogRepository actionLogRepository, BlockingQueue<ActionLog> queue) {
-            this.actionLogRepository = actionLogRepository;
-            this.queue = queue;
-        }
-
-        @Override
-        public void run() {
-            while (true) {
-                try {
-                    actionsToSave.add(queue.take());
-                } catch (InterruptedException ignored) {
-                    continue;
-                }
-
-                queue.drainTo(actionsToSave);
-                trySaveAllActions(actionsToSave);
-                actionsToSave.clear();
-            }
-        }
-
-        private void trySaveAllActions(Collection<ActionLog> actions) {
-            try {
-                actionLogRepository.saveAll(actions);
-            } catch (Exception e) {
-                log.error("Failed to save actions in database", e);
-            }
-        }
+        actionLogRetentionService.deleteOlderThan(olderThan);
     }
 
     private void consoleLogAction(ActionLog action) {
@@ -16,8 +16,8 @@
 
 package org.qubership.integration.platform.catalog.service;
 
-import org.qubership.integration.platform.catalog.model.constant.CamelOptions;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ElementReferenceType;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,16 +25,24 @@ import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 
+import static java.util.Objects.nonNull;
+
 @Service
 public class ElementBaseService {
 
     protected static final String CHAIN_ELEMENT_WITH_ID_NOT_FOUND_MESSAGE = "Can't find chain element with id: ";
 
     protected final ElementRepository elementRepository;
+    private final ElementReferenceService elementReferenceService;
 
-    @Autowired
     public ElementBaseService(ElementRepository elementRepository) {
+        this(elementRepository, null);
+    }
+
+    @Autowired
+    public ElementBaseService(ElementRepository elementRepository, ElementReferenceService elementReferenceService) {
         this.elementRepository = elementRepository;
+        this.elementReferenceService = elementReferenceService;
     }
 
     public ChainElement findById(String id) {
@@ -59,34 +67,21 @@ public class ElementBaseService {
     }
 
     public boolean isSystemUsedByElement(String systemId) {
-        return elementRepository.exists((root, query, builder) -> builder.and(
-                builder.isNotNull(root.get("chain")),
-                builder.equal(builder
-                                .function(
-                                        "jsonb_extract_path_text",
-                                        String.class,
-                                        root.<String>get("properties"),
-                                        builder.literal(CamelOptions.SYSTEM_ID)
-                                ),
-                        systemId)
-        ));
+        return isUsedByElement(ElementReferenceType.SYSTEM, systemId);
     }
 
     public boolean isSpecificationGroupUsedByElement(String specificationGroupId) {
-        return elementRepository.exists((root, query, builder) -> builder.and(
-                builder.isNotNull(root.get("chain")),
-                builder.equal(builder
-                                .function(
-                                        "jsonb_extract_path_text",
-                                        String.class,
-                                        root.<String>get("properties"),
-                                        builder.literal(CamelOptions.SPECIFICATION_GROUP_ID)
-                                ),
-                        specificationGroupId)
-        ));
+        return isUsedByElement(ElementReferenceType.SPECIFICATION_GROUP, specificationGroupId);
     }
 
     public boolean isSystemModelUsedByElement(String modelId) {
+        return isUsedByElement(ElementReferenceType.SYSTEM_MODEL, modelId);
+    }
+
+    private boolean isUsedByElement(ElementReferenceType referenceType, String referencedId) {
+        if (nonNull(elementReferenceService) && elementReferenceService.isEnabled()) {
+            return elementReferenceService.isReferenced(referenceType, referencedId);
+        }
         return elementRepository.exists((root, query, builder) -> builder.and(
                 builder.isNotNull(root.get("chain")),
                 builder.equal(builder
@@ -94,9 +89,9 @@ public class ElementBaseService {
                                         "jsonb_extract_path_text",
                                         String.class,
                                         root.<String>get("properties"),
-                                        builder.literal(CamelOptions.MODEL_ID)
+                                        builder.literal(referenceType.getPropertyName())
                                 ),
-                        modelId)
+                        referencedId)
         ));
     }
 }
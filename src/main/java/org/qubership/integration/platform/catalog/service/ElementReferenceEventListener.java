@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ElementReference;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects chain element changes made in a session and writes the matching
+ * {@link ElementReference} rows right before the transaction commits, in the same transaction.
+ */
+@Slf4j
+class ElementReferenceEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    private static final String DELETE_REFERENCES_QUERY =
+            "DELETE FROM catalog.element_references WHERE element_id IN (:elementIds)";
+    private static final String INSERT_REFERENCE_QUERY = """
+            INSERT INTO catalog.element_references (id, reference_type, referenced_id, element_id, chain_id)
+            VALUES (?, ?, ?, ?, ?)""";
+
+    // Element id to its current references, an empty list for removed elements
+    private final Map<EventSource, Map<String, List<ElementReference>>> pendingReferences = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        track(event.getSession(), event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        track(event.getSession(), event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        track(event.getSession(), event.getEntity(), true);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void track(EventSource session, Object entity, boolean removed) {
+        if (!(entity instanceof ChainElement element)) {
+            return;
+        }
+        Map<String, List<ElementReference>> references = pendingReferences.computeIfAbsent(session, this::registerProcesses);
+        references.put(element.getId(), removed ? Collections.emptyList() : ElementReference.fromElement(element));
+    }
+
+    private Map<String, List<ElementReference>> registerProcesses(EventSource session) {
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::writeReferences);
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> pendingReferences.remove(session));
+        return new LinkedHashMap<>();
+    }
+
+    private void writeReferences(SessionImplementor session) {
+        Map<String, List<ElementReference>> references = pendingReferences.remove(session);
+        if (references == null || references.isEmpty()) {
+            return;
+        }
+        session.createNativeMutationQuery(DELETE_REFERENCES_QUERY)
+                .setParameterList("elementIds", references.keySet())
+                .executeUpdate();
+        List<ElementReference> inserted = references.values().stream().flatMap(List::stream).toList();
+        if (!inserted.isEmpty()) {
+            // A single JDBC batch instead of a round trip per reference
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_REFERENCE_QUERY)) {
+                    for (ElementReference reference : inserted) {
+                        statement.setString(1, reference.getId());
+                        statement.setString(2, reference.getReferenceType().name());
+                        statement.setString(3, reference.getReferencedId());
+                        statement.setString(4, reference.getElementId());
+                        statement.setString(5, reference.getChainId());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            });
+        }
+        log.debug("Updated element references for {} elements", references.size());
+    }
+}
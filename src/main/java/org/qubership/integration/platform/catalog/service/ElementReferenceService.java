@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ElementReferenceType;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ElementReferenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maintains the reverse reference table from systems, specification groups and models
+ * to the chain elements using them, see {@link ElementReferenceType}.
+ * <p>
+ * When enabled, the table is updated in the transaction saving or removing elements,
+ * and usage checks become index lookups instead of scans over element properties.
+ * Changes bypassing the persistence context (bulk or native updates) are not tracked,
+ * {@link #rebuildReferences()} restores the table from the elements.
+ */
+@Slf4j
+@Service
+public class ElementReferenceService {
+
+    private final ElementReferenceRepository elementReferenceRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean rebuildOnStartup;
+
+    @Autowired
+    public ElementReferenceService(
+            ElementReferenceRepository elementReferenceRepository,
+            EntityManagerFactory entityManagerFactory,
+            PlatformTransactionManager transactionManager,
+            @Value("${qip.element-references.enabled:false}") boolean enabled,
+            @Value("${qip.element-references.rebuild-on-startup:false}") boolean rebuildOnStartup
+    ) {
+        this.elementReferenceRepository = elementReferenceRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        if (!enabled) {
+            return;
+        }
+        ElementReferenceEventListener listener = new ElementReferenceEventListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (enabled && rebuildOnStartup) {
+            // Called on this instance, the transactional proxy is not involved
+            transactionTemplate.executeWithoutResult(status -> rebuildReferences());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReferenced(ElementReferenceType referenceType, String referencedId) {
+        return elementReferenceRepository.existsReference(referenceType, referencedId);
+    }
+
+    /**
+     * @return number of chain elements referencing each of the ids, ids without references are omitted
+     */
+    public Map<String, Long> countReferences(ElementReferenceType referenceType, Collection<String> referencedIds) {
+        Map<String, Long> counts = new HashMap<>();
+        if (referencedIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : elementReferenceRepository.countReferences(referenceType, referencedIds)) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Transactional
+    public void rebuildReferences() {
+        elementReferenceRepository.deleteAllReferences();
+        int total = 0;
+        for (ElementReferenceType referenceType : ElementReferenceType.values()) {
+            total += elementReferenceRepository.insertReferencesFromElements(referenceType.name(), referenceType.getPropertyName());
+        }
+        log.info("Element references rebuilt, {} references found", total);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.MutationQuery;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Collects folder creations, moves and removals made in a session. Right before the transaction
+ * commits, applies them to the folder closure table in the same transaction, when it is maintained,
+ * and bumps the hierarchy version other instances validate their cached trees against.
+ * After a successful commit, notifies the hierarchy service so its cached tree is dropped at once.
+ */
+@Slf4j
+class FolderHierarchyEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    private static final String PARENT_FOLDER_PROPERTY = "parentFolder";
+
+    private static final String INSERT_SELF_LINK_QUERY = """
+            INSERT INTO catalog.folder_closure (ancestor_id, descendant_id, depth)
+            VALUES (:folderId, :folderId, 0)""";
+    // Links every ancestor of the parent with every folder of the subtree
+    private static final String ATTACH_SUBTREE_QUERY = """
+            INSERT INTO catalog.folder_closure (ancestor_id, descendant_id, depth)
+            SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1
+            FROM catalog.folder_closure a, catalog.folder_closure d
+            WHERE a.descendant_id = :parentId AND d.ancestor_id = :folderId""";
+    // Removes links from the former ancestors to the subtree, links inside the subtree are kept
+    private static final String DETACH_SUBTREE_QUERY = """
+            DELETE FROM catalog.folder_closure
+            WHERE descendant_id IN (SELECT descendant_id FROM catalog.folder_closure WHERE ancestor_id = :folderId)
+                AND ancestor_id NOT IN (SELECT descendant_id FROM catalog.folder_closure WHERE ancestor_id = :folderId)""";
+    // Nested folders are removed by the database cascade, so links of the whole subtree are removed
+    private static final String DELETE_SUBTREE_QUERY = """
+            DELETE FROM catalog.folder_closure
+            WHERE descendant_id IN (SELECT descendant_id FROM catalog.folder_closure WHERE ancestor_id = :folderId)""";
+
+    private static final String INCREMENT_VERSION_QUERY =
+            "UPDATE catalog.folder_hierarchy_version SET version = version + 1 WHERE id = 1";
+
+    private final boolean maintainClosure;
+    private final boolean maintainVersion;
+    private final Runnable onHierarchyChanged;
+    private final Map<EventSource, List<FolderChange>> pendingChanges = new ConcurrentHashMap<>();
+
+    FolderHierarchyEventListener(boolean maintainClosure, boolean maintainVersion, Runnable onHierarchyChanged) {
+        this.maintainClosure = maintainClosure;
+        this.maintainVersion = maintainVersion;
+        this.onHierarchyChanged = onHierarchyChanged;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Folder folder) {
+            track(event.getSession(), new FolderChange(ChangeType.INSERT, folder.getId(), getParentId(folder.getParentFolder())));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Folder folder)) {
+            return;
+        }
+        String parentId = getParentId(folder.getParentFolder());
+        Object[] oldState = event.getOldState();
+        // Without the old state the folder may have been moved, reattaching it is correct either way
+        if (isNull(oldState) || !Objects.equals(getParentId(oldState[getParentIndex(event.getPersister())]), parentId)) {
+            track(event.getSession(), new FolderChange(ChangeType.MOVE, folder.getId(), parentId));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Folder folder) {
+            track(event.getSession(), new FolderChange(ChangeType.DELETE, folder.getId(), null));
+        }
+    }
+
+    /**
+     * @return whether folders were created, moved or removed in the current transaction of the session
+     */
+    boolean hasPendingChanges(SessionImplementor session) {
+        return pendingChanges.containsKey(session);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void track(EventSource session, FolderChange change) {
+        pendingChanges.computeIfAbsent(session, this::registerProcesses).add(change);
+    }
+
+    private List<FolderChange> registerProcesses(EventSource session) {
+        if (maintainClosure || maintainVersion) {
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::applyChanges);
+        }
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+            pendingChanges.remove(session);
+            if (success) {
+                onHierarchyChanged.run();
+            }
+        });
+        return new ArrayList<>();
+    }
+
+    private void applyChanges(SessionImplementor session) {
+        List<FolderChange> changes = pendingChanges.get(session);
+        if (isNull(changes)) {
+            return;
+        }
+        if (maintainVersion) {
+            session.createNativeMutationQuery(INCREMENT_VERSION_QUERY).executeUpdate();
+        }
+        if (!maintainClosure) {
+            return;
+        }
+        for (FolderChange change : changes) {
+            switch (change.type) {
+                case INSERT -> {
+                    execute(session, INSERT_SELF_LINK_QUERY, change.folderId, null);
+                    attach(session, change);
+                }
+                case MOVE -> {
+                    execute(session, DETACH_SUBTREE_QUERY, change.folderId, null);
+                    attach(session, change);
+                }
+                case DELETE -> execute(session, DELETE_SUBTREE_QUERY, change.folderId, null);
+            }
+        }
+        log.debug("Applied {} folder hierarchy changes to the closure table", changes.size());
+    }
+
+    private static void attach(SessionImplementor session, FolderChange change) {
+        if (change.parentId != null) {
+            execute(session, ATTACH_SUBTREE_QUERY, change.folderId, change.parentId);
+        }
+    }
+
+    private static void execute(SessionImplementor session, String query, String folderId, String parentId) {
+        MutationQuery mutation = session.createNativeMutationQuery(query).setParameter("folderId", folderId);
+        if (parentId != null) {
+            mutation.setParameter("parentId", parentId);
+        }
+        mutation.executeUpdate();
+    }
+
+    private static int getParentIndex(EntityPersister persister) {
+        return persister.getEntityMetamodel().getPropertyIndex(PARENT_FOLDER_PROPERTY);
+    }
+
+    private static String getParentId(Object parent) {
+        return parent instanceof Folder folder ? folder.getId() : null;
+    }
+
+    private enum ChangeType {
+        INSERT, MOVE, DELETE
+    }
+
+    private static class FolderChange {
+        private final ChangeType type;
+        private final String folderId;
+        private final String parentId;
+
+        FolderChange(ChangeType type, String folderId, String parentId) {
+            this.type = type;
+            this.folderId = folderId;
+            this.parentId = parentId;
+        }
+    }
+}
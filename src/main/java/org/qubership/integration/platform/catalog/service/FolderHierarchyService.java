@@ -0,0 +1,290 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.FlushMode;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Folder;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.ChainRepository;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.FolderClosureRepository;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.chain.FolderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Folder hierarchy reads without recursive queries.
+ * <p>
+ * Ancestors and descendants are resolved from an in-memory tree of folder ids, loaded with a single
+ * query. Every transaction creating, moving or removing folders increments a version row, so the tree
+ * is reloaded once its version differs from the stored one, whichever instance made the change,
+ * or when older than {@code cache.ttl-ms}. The cache requires the version row:
+ * <pre>
+ * CREATE TABLE catalog.folder_hierarchy_version (
+ *     id      INT PRIMARY KEY,
+ *     version BIGINT NOT NULL
+ * );
+ * INSERT INTO catalog.folder_hierarchy_version (id, version) VALUES (1, 0);
+ * </pre>
+ * Folders and chains are then loaded by id. Without the cache, or for folders the tree does not contain,
+ * the folder closure table is used when maintained, see
+ * {@link org.qubership.integration.platform.catalog.persistence.configs.entity.chain.FolderClosure}.
+ * The recursive queries are used otherwise, and within a transaction that has already changed folders.
+ */
+@Slf4j
+@Service
+public class FolderHierarchyService {
+    private final FolderRepository folderRepository;
+    private final ChainRepository chainRepository;
+    private final FolderClosureRepository folderClosureRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean closureEnabled;
+    private final boolean rebuildClosureOnStartup;
+    private final boolean cacheEnabled;
+    private final long cacheTtlMs;
+
+    private volatile FolderTree tree;
+    private volatile boolean versionMissingLogged;
+    private FolderHierarchyEventListener listener;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public FolderHierarchyService(
+            FolderRepository folderRepository,
+            ChainRepository chainRepository,
+            FolderClosureRepository folderClosureRepository,
+            EntityManagerFactory entityManagerFactory,
+            PlatformTransactionManager transactionManager,
+            @Value("${qip.folder-hierarchy.closure-table.enabled:false}") boolean closureEnabled,
+            @Value("${qip.folder-hierarchy.closure-table.rebuild-on-startup:false}") boolean rebuildClosureOnStartup,
+            @Value("${qip.folder-hierarchy.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${qip.folder-hierarchy.cache.ttl-ms:10000}") long cacheTtlMs
+    ) {
+        this.folderRepository = folderRepository;
+        this.chainRepository = chainRepository;
+        this.folderClosureRepository = folderClosureRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.closureEnabled = closureEnabled;
+        this.rebuildClosureOnStartup = rebuildClosureOnStartup;
+        this.cacheEnabled = cacheEnabled;
+        this.cacheTtlMs = cacheTtlMs;
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        if (!closureEnabled && !cacheEnabled) {
+            return;
+        }
+        listener = new FolderHierarchyEventListener(closureEnabled, cacheEnabled, () -> tree = null);
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (closureEnabled && rebuildClosureOnStartup) {
+            // Called on this instance, the transactional proxy is not involved
+            transactionTemplate.executeWithoutResult(status -> rebuildClosure());
+        }
+    }
+
+    /**
+     * @return the given folders and all their ancestors
+     */
+    public List<Folder> getFoldersHierarchically(Collection<String> folderIds) {
+        if (folderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<String> ancestorIds = findAncestorIds(folderIds);
+        return isNull(ancestorIds)
+                ? folderRepository.getFoldersHierarchically(new ArrayList<>(folderIds))
+                : folderRepository.findAllById(ancestorIds);
+    }
+
+    /**
+     * @return all folders nested in the given one, excluding the folder itself
+     */
+    public List<Folder> findNestedFolders(String folderId) {
+        Collection<String> descendantIds = findDescendantIds(folderId);
+        if (isNull(descendantIds)) {
+            return folderRepository.findNestedFolders(folderId);
+        }
+        return descendantIds.isEmpty() ? Collections.emptyList() : folderRepository.findAllById(descendantIds);
+    }
+
+    /**
+     * @return the folder, its ancestors and the direct children of all of them
+     */
+    public List<Folder> findAllFoldersToRootParentFolder(String folderId) {
+        Collection<String> ancestorIds = findAncestorIds(List.of(folderId));
+        if (isNull(ancestorIds)) {
+            return folderRepository.findAllFoldersToRootParentFolder(folderId);
+        }
+        return ancestorIds.isEmpty()
+                ? Collections.emptyList()
+                : folderRepository.findAllByIdInOrParentFolderIdIn(ancestorIds, ancestorIds);
+    }
+
+    /**
+     * @return chains located in the folder or any of its ancestors
+     */
+    public List<Chain> findAllChainsToRootParentFolder(String folderId) {
+        Collection<String> ancestorIds = findAncestorIds(List.of(folderId));
+        if (isNull(ancestorIds)) {
+            return chainRepository.findAllChainsToRootParentFolder(folderId);
+        }
+        return ancestorIds.isEmpty() ? Collections.emptyList() : chainRepository.findAllByParentFolderIdIn(ancestorIds);
+    }
+
+    /**
+     * Drops cached trees of all instances, for changes made bypassing the persistence context.
+     */
+    @Transactional
+    public void invalidate() {
+        if (cacheEnabled) {
+            folderClosureRepository.incrementHierarchyVersion();
+        }
+        tree = null;
+    }
+
+    @Transactional
+    public void rebuildClosure() {
+        folderClosureRepository.deleteAllLinks();
+        int links = folderClosureRepository.insertLinksFromFolders();
+        invalidate();
+        log.info("Folder closure table rebuilt, {} links found", links);
+    }
+
+    /**
+     * Neither the tree nor the closure table reflect changes of a transaction before it commits.
+     * The session is flushed first, as native queries do, so pending folder changes are detected.
+     */
+    private boolean isHierarchyChangedInTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        if (session.getHibernateFlushMode() != FlushMode.MANUAL) {
+            session.flush();
+        }
+        return listener.hasPendingChanges(session);
+    }
+
+    /**
+     * @return ids of the given folders and all their ancestors, null when only the recursive queries can tell
+     */
+    @Nullable
+    private Collection<String> findAncestorIds(Collection<String> folderIds) {
+        if (useRecursiveQueries()) {
+            return null;
+        }
+        FolderTree current = getTree(folderIds);
+        if (nonNull(current)) {
+            return current.getAncestorIds(folderIds);
+        }
+        return closureEnabled ? folderClosureRepository.findAncestorIds(folderIds) : null;
+    }
+
+    /**
+     * @return ids of all folders nested in the given one, null when only the recursive queries can tell
+     */
+    @Nullable
+    private Collection<String> findDescendantIds(String folderId) {
+        if (useRecursiveQueries()) {
+            return null;
+        }
+        FolderTree current = getTree(List.of(folderId));
+        if (nonNull(current)) {
+            return current.getDescendantIds(folderId);
+        }
+        return closureEnabled ? folderClosureRepository.findDescendantIds(folderId) : null;
+    }
+
+    private boolean useRecursiveQueries() {
+        return isNull(listener) || isHierarchyChangedInTransaction();
+    }
+
+    /**
+     * @return the current tree if it contains all the folders, otherwise null
+     */
+    @Nullable
+    private FolderTree getTree(Collection<String> folderIds) {
+        if (!cacheEnabled) {
+            return null;
+        }
+        // Read before loading, so changes committed meanwhile trigger another reload
+        Optional<Long> storedVersion = folderClosureRepository.findHierarchyVersion();
+        if (storedVersion.isEmpty()) {
+            if (!versionMissingLogged) {
+                versionMissingLogged = true;
+                log.warn("Folder hierarchy version row is missing, the folder tree cache is bypassed");
+            }
+            return null;
+        }
+        long version = storedVersion.get();
+        FolderTree current = tree;
+        if (!isValid(current, version)) {
+            synchronized (this) {
+                current = tree;
+                if (!isValid(current, version)) {
+                    Map<String, String> parents = new HashMap<>();
+                    for (Object[] link : folderRepository.findAllParentLinks()) {
+                        parents.put((String) link[0], (String) link[1]);
+                    }
+                    current = new FolderTree(parents, version, System.currentTimeMillis());
+                    tree = current;
+                }
+            }
+        }
+        return current.containsAll(folderIds) ? current : null;
+    }
+
+    private boolean isValid(FolderTree folderTree, long version) {
+        return !isNull(folderTree)
+                && folderTree.getVersion() == version
+                && System.currentTimeMillis() - folderTree.getLoadedAt() < cacheTtlMs;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of the folder hierarchy, holding only folder ids.
+ */
+class FolderTree {
+    private final Map<String, String> parents;
+    private final Map<String, List<String>> children;
+    private final long version;
+    private final long loadedAt;
+
+    FolderTree(Map<String, String> parents, long version, long loadedAt) {
+        this.parents = parents;
+        this.children = new HashMap<>();
+        parents.forEach((id, parentId) -> {
+            if (parentId != null) {
+                children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(id);
+            }
+        });
+        this.version = version;
+        this.loadedAt = loadedAt;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    long getLoadedAt() {
+        return loadedAt;
+    }
+
+    boolean containsAll(Collection<String> folderIds) {
+        return parents.keySet().containsAll(folderIds);
+    }
+
+    /**
+     * @return ids of the given folders and all their ancestors, unknown ids are skipped
+     */
+    Set<String> getAncestorIds(Collection<String> folderIds) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String folderId : folderIds) {
+            String id = folderId;
+            while (id != null && parents.containsKey(id) && result.add(id)) {
+                id = parents.get(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return ids of all folders nested in the given one, excluding the folder itself
+     */
+    Set<String> getDescendantIds(String folderId) {
+        Set<String> result = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>(children.getOrDefault(folderId, Collections.emptyList()));
+        while (!queue.isEmpty()) {
+            String id = queue.poll();
+            if (result.add(id)) {
+                queue.addAll(children.getOrDefault(id, Collections.emptyList()));
+            }
+        }
+        return result;
+    }
+}
@@ -19,22 +19,28 @@ package org.qubership.integration.platform.catalog.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.qubership.integration.platform.catalog.exception.SystemModelLibraryGenerationException;
 import org.qubership.integration.platform.catalog.model.system.OperationProtocol;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
 import org.qubership.integration.platform.catalog.persistence.configs.entity.system.*;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.system.CompiledLibraryDataRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.system.SystemModelLabelsRepository;
 import org.qubership.integration.platform.catalog.persistence.configs.repository.system.SystemModelRepository;
 import org.qubership.integration.platform.catalog.service.codegen.SystemModelCodeGenerator;
 import org.qubership.integration.platform.catalog.service.codegen.TargetProtocol;
 import org.qubership.integration.platform.catalog.service.compiler.CompilationError;
+import org.qubership.integration.platform.catalog.service.compiler.CompiledLibraryRebuildScheduler;
 import org.qubership.integration.platform.catalog.service.compiler.CompilerService;
 import org.qubership.integration.platform.catalog.service.compiler.JarBuilder;
+import org.qubership.integration.platform.catalog.service.compiler.LibrarySourceDigest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.annotation.Nullable;
 import java.io.ByteArrayOutputStream;
@@ -42,6 +48,7 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.jar.Manifest;
 
@@ -59,6 +66,8 @@ public class SystemModelBaseService {
     protected final CompilerService compilerService;
     protected final SystemModelLabelsRepository systemModelLabelsRepository;
     protected final ActionsLogService actionLogger;
+    protected final CompiledLibraryDataRepository compiledLibraryDataRepository;
+    protected final CompiledLibraryRebuildScheduler rebuildScheduler;
 
     @Autowired
     public SystemModelBaseService(
@@ -66,13 +75,17 @@ public class SystemModelBaseService {
             List<SystemModelCodeGenerator> codeGenerators,
             CompilerService compilerService,
             SystemModelLabelsRepository systemModelLabelsRepository,
-            ActionsLogService actionLogger
+            ActionsLogService actionLogger,
+            CompiledLibraryDataRepository compiledLibraryDataRepository,
+            CompiledLibraryRebuildScheduler rebuildScheduler
     ) {
         this.systemModelRepository = systemModelRepository;
         this.codeGenerators = codeGenerators;
         this.compilerService = compilerService;
         this.systemModelLabelsRepository = systemModelLabelsRepository;
         this.actionLogger = actionLogger;
+        this.compiledLibraryDataRepository = compiledLibraryDataRepository;
+        this.rebuildScheduler = rebuildScheduler;
     }
 
     public SystemModel getSystemModel(String modelId) {
@@ -121,7 +134,11 @@ public class SystemModelBaseService {
 
     @Transactional
     public void delete(SystemModel model) {
+        String sourceHash = Optional.ofNullable(model.getCompiledLibrary())
+                .map(CompiledLibrary::getSourceHash)
+                .orElse(null);
         systemModelRepository.delete(model);
+        releaseLibraryData(sourceHash);
     }
 
     @Transactional
@@ -130,11 +147,42 @@ public class SystemModelBaseService {
         return model;
     }
 
-    @Transactional
+    /**
+     * Schedules rebuild of compiled libraries of all models of the system on the rebuild workers
+     * without waiting for it. The progress can be obtained from the scheduler by system id.
+     * <p>
+     * Within a transaction the rebuild is scheduled once it commits, as workers rebuild each model
+     * in a new transaction and would neither see uncommitted changes nor acquire locked rows.
+     */
     public void updateCompiledLibrariesForSystem(String systemId) {
-        systemModelRepository
-                .findSystemModelsBySpecificationGroupSystemId(systemId)
-                .forEach(this::patchModelWithCompiledLibrary);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            scheduleCompiledLibrariesUpdate(systemId,
+                    systemModelRepository.findSystemModelIdsBySpecificationGroupSystemId(systemId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private List<String> modelIds = List.of();
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Still within the transaction, so models it created are included
+                modelIds = systemModelRepository.findSystemModelIdsBySpecificationGroupSystemId(systemId);
+            }
+
+            @Override
+            public void afterCommit() {
+                scheduleCompiledLibrariesUpdate(systemId, modelIds);
+            }
+        });
+    }
+
+    private void scheduleCompiledLibrariesUpdate(String systemId, List<String> modelIds) {
+        log.debug("Scheduling rebuild of {} compiled libraries for system with id {}", modelIds.size(), systemId);
+        rebuildScheduler.schedule(systemId, modelIds, this::rebuildCompiledLibrary);
+    }
+
+    private void rebuildCompiledLibrary(String modelId) {
+        systemModelRepository.findById(modelId).ifPresent(this::patchModelWithCompiledLibrary);
     }
 
     @Transactional
@@ -142,14 +190,51 @@ public class SystemModelBaseService {
         if (isNull(model)) {
             return;
         }
-        byte[] data = generateJar(model);
         CompiledLibrary compiledLibrary = model.getCompiledLibrary();
         if (isNull(compiledLibrary)) {
             compiledLibrary = new CompiledLibrary();
             model.setCompiledLibrary(compiledLibrary);
         }
         compiledLibrary.setName(buildJarFileName(model));
-        compiledLibrary.setData(data);
+        SystemModelCodeGenerator codeGenerator = getCodeGenerator(model);
+        if (isNull(codeGenerator)) {
+            setLibraryData(compiledLibrary, null);
+            return;
+        }
+        Pair<Map<String, String>, Manifest> sources = generateSources(codeGenerator, model);
+        String sourceHash = LibrarySourceDigest.compute(sources.getLeft(), sources.getRight());
+        if (sourceHash.equals(compiledLibrary.getSourceHash())) {
+            log.debug("Compiled library of system model with id {} is up to date", model.getId());
+            return;
+        }
+        CompiledLibraryData libraryData = compiledLibraryDataRepository.findById(sourceHash)
+                .map(data -> {
+                    log.debug("Reusing compiled library {} for system model with id {}", sourceHash, model.getId());
+                    return data;
+                })
+                .orElseGet(() -> {
+                    compiledLibraryDataRepository.insertIfAbsent(sourceHash, buildJar(sources, model));
+                    return compiledLibraryDataRepository.getReferenceById(sourceHash);
+                });
+        setLibraryData(compiledLibrary, libraryData);
+    }
+
+    private void setLibraryData(CompiledLibrary compiledLibrary, @Nullable CompiledLibraryData libraryData) {
+        String previousSourceHash = compiledLibrary.getSourceHash();
+        compiledLibrary.setLibraryData(libraryData);
+        compiledLibrary.setData(null);
+        if (!Objects.equals(previousSourceHash, compiledLibrary.getSourceHash())) {
+            releaseLibraryData(previousSourceHash);
+        }
+    }
+
+    private void releaseLibraryData(@Nullable String sourceHash) {
+        if (isNull(sourceHash)) {
+            return;
+        }
+        // Flush first, so the check for remaining references sees the changes of this transaction
+        compiledLibraryDataRepository.flush();
+        compiledLibraryDataRepository.deleteIfUnreferenced(sourceHash);
     }
 
     protected void logModelAction(SystemModel model, SpecificationGroup group, LogOperation operation) {
@@ -175,23 +260,29 @@ public class SystemModelBaseService {
     }
 
 
-    private byte[] generateJar(SystemModel model) {
+    private Pair<Map<String, String>, Manifest> generateSources(SystemModelCodeGenerator codeGenerator, SystemModel model) {
         try {
-            SystemModelCodeGenerator codeGenerator = getCodeGenerator(model);
-            if (isNull(codeGenerator)) {
-                return null;
-            }
             log.debug("Generating library source code for system model with id {}", model.getId());
             Map<String, String> code = codeGenerator.generateCode(model);
             if (code.isEmpty()) {
                 log.debug("System model has no DTO classes: {}", model.getId());
             }
             Manifest manifest = codeGenerator.generateManifest(model);
+            return Pair.of(code, manifest);
+        } catch (Exception exception) {
+            throw new SystemModelLibraryGenerationException("Failed to generate source code.", exception);
+        }
+    }
+
+    private byte[] buildJar(Pair<Map<String, String>, Manifest> sources, SystemModel model) {
+        try {
             log.debug("Compiling library for system model with id {}", model.getId());
-            Map<String, byte[]> compiledCode = code.isEmpty()? Collections.emptyMap() : compilerService.compile(code);
+            Map<String, byte[]> compiledCode = sources.getLeft().isEmpty()
+                    ? Collections.emptyMap()
+                    : compilerService.compile(sources.getLeft());
             JarBuilder jarBuilder = new JarBuilder();
             try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                jarBuilder.writeJar(outputStream, compiledCode, manifest);
+                jarBuilder.writeJar(outputStream, compiledCode, sources.getRight());
                 outputStream.close();
                 return outputStream.toByteArray();
             } catch (IOException exception) {
@@ -199,8 +290,6 @@ public class SystemModelBaseService {
             }
         } catch (CompilationError exception) {
             throw new SystemModelLibraryGenerationException("Failed to compile code.", exception);
-        } catch (Exception exception) {
-            throw new SystemModelLibraryGenerationException("Failed to generate source code.", exception);
         }
     }
 
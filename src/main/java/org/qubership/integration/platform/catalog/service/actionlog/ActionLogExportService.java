@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.actionlog;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.text.StringEscapeUtils;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.qubership.integration.platform.catalog.model.dto.actionlog.ActionLogFilterRequestDTO;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.actionlog.ActionLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Exports action logs without loading them into memory.
+ * <p>
+ * Records are read through a forward-only cursor and detached from the persistence context
+ * once written. Spreadsheets keep only the last {@code xlsx-window-size} rows in memory, flushing
+ * the rest to a temporary file, and continue on a new sheet when a sheet is full.
+ * <p>
+ * Action time is written in UTC in both formats. Text values that a spreadsheet application
+ * would evaluate as a formula are prefixed with an apostrophe.
+ */
+@Slf4j
+@Service
+public class ActionLogExportService {
+    private static final String SHEET_NAME = "Audit";
+    private static final String DATE_FORMAT = "yyyy-mm-dd hh:mm:ss";
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final int ACTION_TIME_COLUMN = 0;
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final char FORMULA_ESCAPE = '\'';
+
+    private static final List<Pair<String, Function<ActionLog, Object>>> COLUMNS = List.of(
+            Pair.of("Action time", ActionLog::getActionTime),
+            Pair.of("Operation", ActionLog::getOperation),
+            Pair.of("Entity type", ActionLog::getEntityType),
+            Pair.of("Entity id", ActionLog::getEntityId),
+            Pair.of("Entity name", ActionLog::getEntityName),
+            Pair.of("Parent type", ActionLog::getParentType),
+            Pair.of("Parent id", ActionLog::getParentId),
+            Pair.of("Parent name", ActionLog::getParentName),
+            Pair.of("Request id", ActionLog::getRequestId),
+            Pair.of("User id", actionLog -> actionLog.getUser().getId()),
+            Pair.of("Username", actionLog -> actionLog.getUser().getUsername())
+    );
+
+    private final ActionLogRepository actionLogRepository;
+    private final int xlsxWindowSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public ActionLogExportService(
+            ActionLogRepository actionLogRepository,
+            @Value("${qip.action-log.export.xlsx-window-size:100}") int xlsxWindowSize
+    ) {
+        this.actionLogRepository = actionLogRepository;
+        this.xlsxWindowSize = xlsxWindowSize;
+    }
+
+    /**
+     * Writes action logs matching the filters to the output stream, ordered by action time.
+     * The output stream is flushed but not closed.
+     *
+     * @param fromTime lower bound of action time, inclusive
+     * @param toTime upper bound of action time, exclusive
+     * @return number of exported records
+     */
+    @Transactional(readOnly = true)
+    public long export(
+            ActionLogExportFormat format,
+            @Nullable Timestamp fromTime,
+            @Nullable Timestamp toTime,
+            List<ActionLogFilterRequestDTO> filters,
+            OutputStream outputStream
+    ) throws IOException {
+        try (Stream<ActionLog> actionLogs = actionLogRepository.streamActionLogs(fromTime, toTime, new ArrayList<>(filters))) {
+            Stream<ActionLog> detachedActionLogs = actionLogs.peek(entityManager::detach);
+            long count = switch (format) {
+                case CSV -> writeCsv(detachedActionLogs, outputStream);
+                case XLSX -> writeXlsx(detachedActionLogs, outputStream);
+            };
+            log.debug("Exported {} action logs to {}", count, format);
+            return count;
+        }
+    }
+
+    long writeCsv(Stream<ActionLog> actionLogs, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeCsvRow(writer, COLUMNS.stream().map(Pair::getKey).toList());
+        long count = 0;
+        for (ActionLog actionLog : (Iterable<ActionLog>) actionLogs::iterator) {
+            List<Object> values = new ArrayList<>(COLUMNS.size());
+            for (Pair<String, Function<ActionLog, Object>> column : COLUMNS) {
+                Object value = column.getValue().apply(actionLog);
+                if (value instanceof Timestamp timestamp) {
+                    values.add(timestamp.toInstant());
+                } else {
+                    values.add(isNull(value) ? null : neutralizeFormula(value));
+                }
+            }
+            writeCsvRow(writer, values);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    long writeXlsx(Stream<ActionLog> actionLogs, OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(xlsxWindowSize);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat(DATE_FORMAT));
+
+            Sheet sheet = null;
+            int rowIndex = MAX_ROWS_PER_SHEET;
+            long count = 0;
+            for (ActionLog actionLog : (Iterable<ActionLog>) actionLogs::iterator) {
+                if (rowIndex == MAX_ROWS_PER_SHEET) {
+                    sheet = createSheet(workbook, workbook.getNumberOfSheets() + 1);
+                    rowIndex = 1;
+                }
+                Row row = sheet.createRow(rowIndex++);
+                for (int i = 0; i < COLUMNS.size(); i++) {
+                    Object value = COLUMNS.get(i).getValue().apply(actionLog);
+                    if (isNull(value)) {
+                        continue;
+                    }
+                    Cell cell = row.createCell(i);
+                    if (i == ACTION_TIME_COLUMN) {
+                        cell.setCellValue(LocalDateTime.ofInstant(((Timestamp) value).toInstant(), ZoneOffset.UTC));
+                        cell.setCellStyle(dateStyle);
+                    } else {
+                        cell.setCellValue(neutralizeFormula(value));
+                    }
+                }
+                count++;
+            }
+            if (isNull(sheet)) {
+                createSheet(workbook, 1);
+            }
+            workbook.write(outputStream);
+            outputStream.flush();
+            return count;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static Sheet createSheet(SXSSFWorkbook workbook, int number) {
+        Sheet sheet = workbook.createSheet(number == 1 ? SHEET_NAME : SHEET_NAME + " " + number);
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            header.createCell(i).setCellValue(COLUMNS.get(i).getKey());
+        }
+        return sheet;
+    }
+
+    private static String neutralizeFormula(Object value) {
+        String text = String.valueOf(value);
+        return !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0 ? FORMULA_ESCAPE + text : text;
+    }
+
+    private static void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(StringEscapeUtils.escapeCsv(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+}
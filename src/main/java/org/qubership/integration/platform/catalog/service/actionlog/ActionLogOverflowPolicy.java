@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.actionlog;
+
+/**
+ * Defines what happens to a new action log when the write queue is full.
+ */
+public enum ActionLogOverflowPolicy {
+    /**
+     * Wait for free space up to the configured timeout, then drop the new action.
+     */
+    BLOCK,
+    /**
+     * Drop the oldest queued action to make room for the new one.
+     */
+    DROP_OLDEST,
+    /**
+     * Once the queue is filled above the sampling threshold, accept only every n-th action.
+     * Actions arriving at a full queue are dropped.
+     */
+    SAMPLE
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.actionlog;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Time range covered by a single partition of the partitioned action log table.
+ */
+public enum ActionLogPartitionInterval {
+    DAY {
+        @Override
+        public LocalDate getStart(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate getNextStart(LocalDate start) {
+            return start.plusDays(1);
+        }
+    },
+    WEEK {
+        @Override
+        public LocalDate getStart(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate getNextStart(LocalDate start) {
+            return start.plusWeeks(1);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate getStart(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate getNextStart(LocalDate start) {
+            return start.plusMonths(1);
+        }
+    };
+
+    /**
+     * @return start of the partition containing the given date
+     */
+    public abstract LocalDate getStart(LocalDate date);
+
+    public abstract LocalDate getNextStart(LocalDate start);
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.actionlog;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.actionlog.ActionLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Removes expired action logs without holding long locks.
+ * <p>
+ * Records are deleted oldest first, in chunks committed in separate transactions with a pause
+ * between them. The chunk size adapts to keep every chunk close to {@code chunk-target-ms}.
+ * <p>
+ * With {@code partitioned} enabled, {@code catalog.logged_actions} is expected to be partitioned by
+ * range of {@code action_time}. Partitions
+ * entirely before the expiration time are detached and dropped instead, and partitions for the
+ * upcoming intervals are created in advance, starting after the ranges already covered.
+ * Partitions are detached concurrently on an autocommit connection, so writers are not blocked,
+ * which requires PostgreSQL 14 and no DEFAULT partition.
+ * See {@link #getPartitionedLayoutDefinitions()} for the migration to the partitioned layout.
+ * Partition maintenance failures are logged and do not prevent the chunked deletes.
+ */
+@Slf4j
+@Service
+public class ActionLogRetentionService {
+    private static final String TABLE_SCHEMA = "catalog";
+    private static final String TABLE_NAME = "logged_actions";
+    private static final String QUALIFIED_TABLE_NAME = TABLE_SCHEMA + "." + TABLE_NAME;
+    private static final int MIN_CHUNK_SIZE = 100;
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter PARTITION_BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    // Upper bound of a range partition, the lower one may be MINVALUE
+    private static final Pattern PARTITION_UPPER_BOUND_PATTERN = Pattern.compile("TO \\('([^']+)'\\)");
+
+    private static final String PARTITIONS_QUERY = """
+            SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+            FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = CAST('%s' AS regclass)""".formatted(QUALIFIED_TABLE_NAME);
+    // Partitions left by an interrupted concurrent detach
+    private static final String PENDING_DETACH_QUERY = """
+            SELECT c.relname
+            FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = CAST('%s' AS regclass) AND i.inhdetachpending""".formatted(QUALIFIED_TABLE_NAME);
+
+    private final ActionLogRepository actionLogRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxChunkSize;
+    private final long chunkTargetMs;
+    private final long chunkPauseMs;
+    private final boolean partitioned;
+    private final ActionLogPartitionInterval partitionInterval;
+    private final int partitionsAhead;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public ActionLogRetentionService(
+            ActionLogRepository actionLogRepository,
+            PlatformTransactionManager transactionManager,
+            DataSource dataSource,
+            @Value("${qip.action-log.retention.chunk-size:5000}") int maxChunkSize,
+            @Value("${qip.action-log.retention.chunk-target-ms:500}") long chunkTargetMs,
+            @Value("${qip.action-log.retention.chunk-pause-ms:100}") long chunkPauseMs,
+            @Value("${qip.action-log.retention.partitioned:false}") boolean partitioned,
+            @Value("${qip.action-log.retention.partition-interval:MONTH}") ActionLogPartitionInterval partitionInterval,
+            @Value("${qip.action-log.retention.partitions-ahead:2}") int partitionsAhead
+    ) {
+        this.actionLogRepository = actionLogRepository;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxChunkSize = Math.max(maxChunkSize, MIN_CHUNK_SIZE);
+        this.chunkTargetMs = chunkTargetMs;
+        this.chunkPauseMs = chunkPauseMs;
+        this.partitioned = partitioned;
+        this.partitionInterval = partitionInterval;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    /**
+     * Removes action logs older than the given interval.
+     *
+     * @param olderThan interval string, for example: '1 hour', '7 days', '2 years 3 month'
+     * @return number of records removed by chunked deletes, rows of dropped partitions are not counted
+     */
+    public long deleteOlderThan(String olderThan) {
+        Timestamp expirationTime = actionLogRepository.getExpirationTime(olderThan);
+        if (partitioned) {
+            try {
+                createPartitions();
+            } catch (Exception e) {
+                log.warn("Failed to create action log partitions", e);
+            }
+            try {
+                dropPartitionsBefore(expirationTime);
+            } catch (Exception e) {
+                log.warn("Failed to drop expired action log partitions", e);
+            }
+        }
+        return deleteInChunks(expirationTime);
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartitionsOnStartup() {
+        if (!partitioned) {
+            return;
+        }
+        try {
+            createPartitions();
+        } catch (Exception e) {
+            log.warn("Failed to create action log partitions", e);
+        }
+    }
+
+    /**
+     * Creates partitions for the current and the next {@code partitions-ahead} intervals,
+     * skipping the ranges already covered by existing partitions such as the legacy one.
+     */
+    public void createPartitions() {
+        LocalDateTime covered = findPartitionUpperBounds().values().stream()
+                .max(LocalDateTime::compareTo)
+                .orElse(LocalDateTime.MIN);
+        LocalDate start = partitionInterval.getStart(LocalDate.now());
+        for (int i = 0; i <= partitionsAhead; i++) {
+            LocalDate end = partitionInterval.getNextStart(start);
+            LocalDateTime from = start.atStartOfDay().isBefore(covered) ? covered : start.atStartOfDay();
+            if (from.isBefore(end.atStartOfDay())) {
+                String statement = String.format(
+                        "CREATE TABLE IF NOT EXISTS %s.%s_p%s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        TABLE_SCHEMA, TABLE_NAME, from.format(PARTITION_SUFFIX_FORMAT), QUALIFIED_TABLE_NAME,
+                        from.format(PARTITION_BOUND_FORMAT),
+                        end.atStartOfDay().format(PARTITION_BOUND_FORMAT));
+                transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(statement).executeUpdate());
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Statements converting {@code catalog.logged_actions} to the partitioned layout, to be applied by
+     * the service migrations, with the cutover at the start of the next interval.
+     *
+     * @see #getPartitionedLayoutDefinitions(LocalDate)
+     */
+    public List<String> getPartitionedLayoutDefinitions() {
+        return getPartitionedLayoutDefinitions(partitionInterval.getNextStart(partitionInterval.getStart(LocalDate.now())));
+    }
+
+    /**
+     * Statements converting {@code catalog.logged_actions} to the partitioned layout.
+     * <p>
+     * The existing table becomes the range partition {@code [MINVALUE, cutover)}, it keeps receiving
+     * records until the cutover and is dropped once all of them expire. A validated check constraint and
+     * the indexes are prepared first, so attaching neither scans the table nor builds indexes under lock.
+     * The {@code CREATE INDEX CONCURRENTLY} statements must run outside a transaction block.
+     * The cutover must be later than any existing record and before any migration or startup call
+     * of {@link #createPartitions()}, which creates partitions from the cutover on.
+     *
+     * @param cutover first day stored in range partitions, should be an interval start
+     */
+    public List<String> getPartitionedLayoutDefinitions(LocalDate cutover) {
+        String bound = cutover.atStartOfDay().format(PARTITION_BOUND_FORMAT);
+        String legacyTable = QUALIFIED_TABLE_NAME + "_legacy";
+        return List.of(
+                "ALTER TABLE " + QUALIFIED_TABLE_NAME + " ADD CONSTRAINT " + TABLE_NAME + "_legacy_bound"
+                        + " CHECK (action_time IS NOT NULL AND action_time < '" + bound + "') NOT VALID",
+                "ALTER TABLE " + QUALIFIED_TABLE_NAME + " VALIDATE CONSTRAINT " + TABLE_NAME + "_legacy_bound",
+                // Uses the validated constraint instead of a scan
+                "ALTER TABLE " + QUALIFIED_TABLE_NAME + " ALTER COLUMN action_time SET NOT NULL",
+                "CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS " + TABLE_NAME + "_id_time_idx ON "
+                        + QUALIFIED_TABLE_NAME + " (id, action_time)",
+                "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + TABLE_NAME + "_time_id_idx ON "
+                        + QUALIFIED_TABLE_NAME + " (action_time DESC, id DESC)",
+                "CREATE TABLE " + QUALIFIED_TABLE_NAME + "_partitioned (LIKE " + QUALIFIED_TABLE_NAME
+                        + " INCLUDING DEFAULTS) PARTITION BY RANGE (action_time)",
+                "ALTER TABLE " + QUALIFIED_TABLE_NAME + "_partitioned ADD PRIMARY KEY (id, action_time)",
+                "CREATE INDEX " + TABLE_NAME + "_partitioned_time_id_idx ON " + QUALIFIED_TABLE_NAME
+                        + "_partitioned (action_time DESC, id DESC)",
+                "ALTER TABLE " + QUALIFIED_TABLE_NAME + " RENAME TO " + TABLE_NAME + "_legacy",
+                "ALTER TABLE " + QUALIFIED_TABLE_NAME + "_partitioned RENAME TO " + TABLE_NAME,
+                "ALTER TABLE " + QUALIFIED_TABLE_NAME + " ATTACH PARTITION " + legacyTable
+                        + " FOR VALUES FROM (MINVALUE) TO ('" + bound + "')"
+        );
+    }
+
+    private void dropPartitionsBefore(Timestamp expirationTime) throws SQLException {
+        LocalDateTime expiration = expirationTime.toLocalDateTime();
+        List<String> expired = new ArrayList<>();
+        findPartitionUpperBounds().forEach((partition, upperBound) -> {
+            if (!upperBound.isAfter(expiration)) {
+                expired.add(partition);
+            }
+        });
+        if (expired.isEmpty()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            // DETACH ... CONCURRENTLY cannot run inside a transaction block
+            connection.setAutoCommit(true);
+            Set<String> pendingDetach = findPendingDetach(connection);
+            for (String partition : expired) {
+                String qualifiedPartition = TABLE_SCHEMA + "." + partition;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ALTER TABLE " + QUALIFIED_TABLE_NAME + " DETACH PARTITION " + qualifiedPartition
+                            + (pendingDetach.contains(partition) ? " FINALIZE" : " CONCURRENTLY"));
+                    statement.execute("DROP TABLE " + qualifiedPartition);
+                    log.info("Dropped expired action log partition {}", partition);
+                } catch (SQLException e) {
+                    log.warn("Failed to drop expired action log partition {}", partition, e);
+                }
+            }
+        }
+    }
+
+    private Set<String> findPendingDetach(Connection connection) throws SQLException {
+        Set<String> partitions = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(PENDING_DETACH_QUERY)) {
+            while (resultSet.next()) {
+                partitions.add(resultSet.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * @return upper bounds of range partitions by partition name
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, LocalDateTime> findPartitionUpperBounds() {
+        List<Object[]> partitions = transactionTemplate.execute(status ->
+                entityManager.createNativeQuery(PARTITIONS_QUERY).getResultList());
+        Map<String, LocalDateTime> upperBounds = new HashMap<>();
+        for (Object[] partition : partitions) {
+            // DEFAULT partition has no bounds
+            Matcher matcher = PARTITION_UPPER_BOUND_PATTERN.matcher(String.valueOf(partition[1]));
+            if (!matcher.find()) {
+                continue;
+            }
+            try {
+                upperBounds.put((String) partition[0], Timestamp.valueOf(matcher.group(1)).toLocalDateTime());
+            } catch (IllegalArgumentException e) {
+                log.warn("Unexpected bounds of action log partition {}: {}", partition[0], partition[1]);
+            }
+        }
+        return upperBounds;
+    }
+
+    private long deleteInChunks(Timestamp expirationTime) {
+        long total = 0;
+        int chunkSize = maxChunkSize;
+        while (true) {
+            long start = System.nanoTime();
+            int limit = chunkSize;
+            Integer deleted = transactionTemplate.execute(status ->
+                    actionLogRepository.deleteOldRecordsChunk(expirationTime, limit));
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            total += deleted;
+            if (deleted < limit) {
+                break;
+            }
+            chunkSize = adjustChunkSize(chunkSize, elapsedMs);
+            if (!pause()) {
+                log.warn("Action log retention interrupted after removing {} records", total);
+                break;
+            }
+        }
+        log.info("Removed {} action logs created before {}", total, expirationTime);
+        return total;
+    }
+
+    private int adjustChunkSize(int chunkSize, long elapsedMs) {
+        if (elapsedMs > chunkTargetMs) {
+            return Math.max(chunkSize / 2, MIN_CHUNK_SIZE);
+        }
+        if (elapsedMs < chunkTargetMs / 2) {
+            return Math.min(chunkSize * 2, maxChunkSize);
+        }
+        return chunkSize;
+    }
+
+    private boolean pause() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
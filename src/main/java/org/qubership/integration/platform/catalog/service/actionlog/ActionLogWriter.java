@@ -0,0 +1,353 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.actionlog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.catalog.persistence.configs.repository.actionlog.ActionLogRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Writes action logs to the database in the background.
+ * <p>
+ * Actions are buffered in a bounded queue, see {@link ActionLogOverflowPolicy} for what happens
+ * when it is full. A single writer thread inserts them in batches of up to {@code batch-size}
+ * actions, waiting at most {@code flush-interval-ms} for a batch to fill up. Failed batches are
+ * retried with exponential backoff. On shutdown, the queue is drained within {@code shutdown-timeout-ms}.
+ */
+@Slf4j
+@Component
+public class ActionLogWriter {
+    private static final String METRIC_PREFIX = "qip.action.log.";
+    private static final long DROP_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Consumer<List<ActionLog>> batchWriter;
+    private final BlockingQueue<PendingAction> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final ActionLogOverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+    private final int samplingThreshold;
+    private final int samplingRate;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final long shutdownTimeoutMs;
+
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private final AtomicLong sampledCounter = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong lastDropLoggedAt = new AtomicLong(System.nanoTime() - DROP_LOG_INTERVAL_NANOS);
+
+    private final Counter writtenCounter;
+    private final Map<DropReason, Counter> droppedCounters = new EnumMap<>(DropReason.class);
+    private final Timer batchWriteTimer;
+    private final Timer latencyTimer;
+
+    @Autowired
+    public ActionLogWriter(
+            ActionLogRepository actionLogRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${qip.action-log.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${qip.action-log.writer.batch-size:500}") int batchSize,
+            @Value("${qip.action-log.writer.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${qip.action-log.writer.overflow-policy:BLOCK}") ActionLogOverflowPolicy overflowPolicy,
+            @Value("${qip.action-log.writer.block-timeout-ms:100}") long blockTimeoutMs,
+            @Value("${qip.action-log.writer.sampling-threshold:0.8}") double samplingThreshold,
+            @Value("${qip.action-log.writer.sampling-rate:10}") int samplingRate,
+            @Value("${qip.action-log.writer.max-retries:3}") int maxRetries,
+            @Value("${qip.action-log.writer.retry-backoff-ms:200}") long retryBackoffMs,
+            @Value("${qip.action-log.writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMs
+    ) {
+        this(
+                transactionalBatchWriter(actionLogRepository, transactionManager, batchSize),
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry),
+                queueCapacity, batchSize, flushIntervalMs, overflowPolicy, blockTimeoutMs,
+                samplingThreshold, samplingRate, maxRetries, retryBackoffMs, shutdownTimeoutMs);
+    }
+
+    ActionLogWriter(
+            Consumer<List<ActionLog>> batchWriter,
+            MeterRegistry meterRegistry,
+            int queueCapacity,
+            int batchSize,
+            long flushIntervalMs,
+            ActionLogOverflowPolicy overflowPolicy,
+            long blockTimeoutMs,
+            double samplingThreshold,
+            int samplingRate,
+            int maxRetries,
+            long retryBackoffMs,
+            long shutdownTimeoutMs
+    ) {
+        this.batchWriter = batchWriter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.samplingThreshold = (int) Math.ceil(queueCapacity * samplingThreshold);
+        this.samplingRate = Math.max(samplingRate, 1);
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+
+        Gauge.builder(METRIC_PREFIX + "queue.size", queue, BlockingQueue::size)
+                .description("Number of action logs waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder(METRIC_PREFIX + "written")
+                .description("Number of action logs written to the database")
+                .register(meterRegistry);
+        for (DropReason reason : DropReason.values()) {
+            droppedCounters.put(reason, Counter.builder(METRIC_PREFIX + "dropped")
+                    .description("Number of action logs not written to the database")
+                    .tag("reason", reason.getTag())
+                    .register(meterRegistry));
+        }
+        this.batchWriteTimer = Timer.builder(METRIC_PREFIX + "batch.write")
+                .description("Time to write a batch of action logs")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder(METRIC_PREFIX + "latency")
+                .description("Time from submitting an action log to writing it")
+                .register(meterRegistry);
+
+        this.writerThread = new Thread(this::run, "action-log-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        running = false;
+        try {
+            writerThread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = queue.size();
+        if (writerThread.isAlive() && remaining > 0) {
+            log.warn("Action log writer did not finish in {} ms, {} action logs are not saved", shutdownTimeoutMs, remaining);
+        }
+    }
+
+    /**
+     * Queues the action to be written.
+     *
+     * @return {@code false} if the action was dropped according to the overflow policy
+     */
+    public boolean submit(ActionLog action) {
+        if (!running) {
+            drop(DropReason.SHUTDOWN, 1);
+            return false;
+        }
+        PendingAction pendingAction = new PendingAction(action, System.nanoTime());
+        return switch (overflowPolicy) {
+            case BLOCK -> offerWithTimeout(pendingAction);
+            case DROP_OLDEST -> offerDroppingOldest(pendingAction);
+            case SAMPLE -> offerSampled(pendingAction);
+        };
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private boolean offerWithTimeout(PendingAction pendingAction) {
+        try {
+            if (queue.offer(pendingAction, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drop(DropReason.OVERFLOW, 1);
+        return false;
+    }
+
+    private boolean offerDroppingOldest(PendingAction pendingAction) {
+        while (!queue.offer(pendingAction)) {
+            if (queue.poll() != null) {
+                drop(DropReason.OVERFLOW, 1);
+            }
+        }
+        return true;
+    }
+
+    private boolean offerSampled(PendingAction pendingAction) {
+        if (queue.size() >= samplingThreshold && sampledCounter.getAndIncrement() % samplingRate != 0) {
+            drop(DropReason.SAMPLED, 1);
+            return false;
+        }
+        if (queue.offer(pendingAction)) {
+            return true;
+        }
+        drop(DropReason.OVERFLOW, 1);
+        return false;
+    }
+
+    private void run() {
+        List<PendingAction> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                log.warn("Action log writer interrupted, writing remaining actions");
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<PendingAction> batch) throws InterruptedException {
+        PendingAction first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                break;
+            }
+            PendingAction next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingAction> batch) {
+        List<ActionLog> actions = batch.stream().map(pendingAction -> pendingAction.action).toList();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                batchWriteTimer.record(() -> batchWriter.accept(actions));
+                break;
+            } catch (Exception e) {
+                if (attempt >= maxRetries) {
+                    log.error("Failed to save {} actions in database", actions.size(), e);
+                    drop(DropReason.WRITE_FAILED, actions.size());
+                    return;
+                }
+                log.warn("Failed to save actions in database, attempt {} of {}", attempt + 1, maxRetries + 1, e);
+                if (!sleep(retryBackoffMs << attempt)) {
+                    drop(DropReason.WRITE_FAILED, actions.size());
+                    return;
+                }
+            }
+        }
+        writtenCounter.increment(actions.size());
+        long now = System.nanoTime();
+        for (PendingAction pendingAction : batch) {
+            latencyTimer.record(now - pendingAction.submittedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drop(DropReason reason, int count) {
+        long dropped = droppedCount.addAndGet(count);
+        droppedCounters.get(reason).increment(count);
+        if (reason == DropReason.OVERFLOW || reason == DropReason.SHUTDOWN) {
+            logDropRateLimited(reason, dropped);
+        }
+    }
+
+    private void logDropRateLimited(DropReason reason, long dropped) {
+        long now = System.nanoTime();
+        long lastLoggedAt = lastDropLoggedAt.get();
+        if (now - lastLoggedAt >= DROP_LOG_INTERVAL_NANOS && lastDropLoggedAt.compareAndSet(lastLoggedAt, now)) {
+            log.error("Action log is not saved: {}, {} action logs dropped in total", reason.getTag(), dropped);
+        }
+    }
+
+    private static Consumer<List<ActionLog>> transactionalBatchWriter(
+            ActionLogRepository actionLogRepository,
+            PlatformTransactionManager transactionManager,
+            int batchSize
+    ) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return actions -> transactionTemplate.executeWithoutResult(
+                status -> actionLogRepository.insertAll(actions, batchSize));
+    }
+
+    private enum DropReason {
+        OVERFLOW, SAMPLED, WRITE_FAILED, SHUTDOWN;
+
+        String getTag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static class PendingAction {
+        private final ActionLog action;
+        private final long submittedAt;
+
+        PendingAction(ActionLog action, long submittedAt) {
+            this.action = action;
+            this.submittedAt = submittedAt;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.compiler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.catalog.model.compiledlibrary.CompiledLibraryRebuildProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs compiled library rebuilds on a bounded worker pool.
+ * <p>
+ * Every rebuild runs in its own transaction. A model that is already waiting in the queue is not
+ * queued again; the new request shares the pending rebuild instead. Rebuilds that do not fit
+ * into the queue, or are submitted after shutdown, fail with {@link RejectedExecutionException}.
+ * Concurrency of javac and protoc themselves is capped separately by {@link CompilerService}
+ * and the gRPC code generator.
+ */
+@Slf4j
+@Component
+public class CompiledLibraryRebuildScheduler {
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, CompletableFuture<Void>> queuedRebuilds = new ConcurrentHashMap<>();
+    // Several batches may share an id, e.g. repeated rebuilds of the same system
+    private final Map<String, Set<CompiledLibraryRebuildProgress>> batches = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CompiledLibraryRebuildScheduler(
+            PlatformTransactionManager transactionManager,
+            @Value("${compiler.rebuild.parallelism:0}") int parallelism,
+            @Value("${compiler.rebuild.queue-capacity:1000}") int queueCapacity
+    ) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new RebuildThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Schedules rebuilds of the given models. Must not be called within a transaction
+     * that modified or locked the models, rebuilds run in new transactions on other threads.
+     *
+     * @param batchId identifier the progress can be looked up by, e.g. a system id
+     * @param modelIds ids of the models to rebuild
+     * @param rebuild action rebuilding a single model, invoked within a new transaction
+     * @return progress of the batch
+     */
+    public CompiledLibraryRebuildProgress schedule(String batchId, Collection<String> modelIds, Consumer<String> rebuild) {
+        Map<String, CompletableFuture<Void>> rebuilds = new LinkedHashMap<>();
+        for (String modelId : modelIds) {
+            rebuilds.computeIfAbsent(modelId, id -> schedule(id, rebuild));
+        }
+        CompiledLibraryRebuildProgress progress = new CompiledLibraryRebuildProgress(batchId, rebuilds);
+        batches.compute(batchId, (id, progresses) -> {
+            Set<CompiledLibraryRebuildProgress> result = progresses == null ? ConcurrentHashMap.newKeySet() : progresses;
+            result.add(progress);
+            return result;
+        });
+        progress.getCompletion().whenComplete((result, exception) -> batches.computeIfPresent(batchId, (id, progresses) -> {
+            progresses.remove(progress);
+            return progresses.isEmpty() ? null : progresses;
+        }));
+        return progress;
+    }
+
+    /**
+     * @return progress of unfinished batches with the id
+     */
+    public List<CompiledLibraryRebuildProgress> getProgress(String batchId) {
+        Set<CompiledLibraryRebuildProgress> progresses = batches.get(batchId);
+        return progresses == null ? List.of() : List.copyOf(progresses);
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        CancellationException cancellation = new CancellationException("Compiled library rebuild scheduler is shut down");
+        for (Runnable task : executor.shutdownNow()) {
+            if (task instanceof RebuildTask rebuildTask) {
+                rebuildTask.future.completeExceptionally(cancellation);
+            }
+        }
+        queuedRebuilds.values().forEach(future -> future.completeExceptionally(cancellation));
+        queuedRebuilds.clear();
+    }
+
+    private CompletableFuture<Void> schedule(String modelId, Consumer<String> rebuild) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture<Void> queued = queuedRebuilds.putIfAbsent(modelId, future);
+        if (queued != null) {
+            log.debug("Rebuild of compiled library for system model with id {} is already queued", modelId);
+            return queued;
+        }
+        try {
+            executor.execute(new RebuildTask(modelId, future, rebuild));
+        } catch (RejectedExecutionException exception) {
+            queuedRebuilds.remove(modelId, future);
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    private class RebuildTask implements Runnable {
+        private final String modelId;
+        private final CompletableFuture<Void> future;
+        private final Consumer<String> rebuild;
+
+        RebuildTask(String modelId, CompletableFuture<Void> future, Consumer<String> rebuild) {
+            this.modelId = modelId;
+            this.future = future;
+            this.rebuild = rebuild;
+        }
+
+        @Override
+        public void run() {
+            // Requests arriving from now on must trigger another rebuild, as they may see newer sources
+            queuedRebuilds.remove(modelId, future);
+            try {
+                log.debug("Rebuilding compiled library for system model with id {}", modelId);
+                transactionTemplate.executeWithoutResult(status -> rebuild.accept(modelId));
+                future.complete(null);
+            } catch (Throwable exception) {
+                log.error("Failed to rebuild compiled library for system model with id {}", modelId, exception);
+                future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    private static class RebuildThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "library-rebuild-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -16,14 +16,42 @@
 
 package org.qubership.integration.platform.catalog.service.compiler;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 @Service
 public class CompilerService {
+    private final InMemoryCompiler compiler;
+    private final Semaphore compilationPermits;
+
+    public CompilerService(
+            @Value("${compiler.file-manager-pool-size:4}") int fileManagerPoolSize,
+            @Value("${compiler.max-concurrent-compilations:4}") int maxConcurrentCompilations
+    ) {
+        this.compiler = new InMemoryCompiler(fileManagerPoolSize);
+        this.compilationPermits = new Semaphore(maxConcurrentCompilations, true);
+    }
+
     public Map<String, byte[]> compile(Map<String, String> sources) throws CompilationError {
-        InMemoryCompiler compiler = new InMemoryCompiler();
-        return compiler.compile(sources);
+        try {
+            compilationPermits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CompilationError("Interrupted while waiting for compiler.", exception);
+        }
+        try {
+            return compiler.compile(sources);
+        } finally {
+            compilationPermits.release();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        compiler.close();
     }
 }
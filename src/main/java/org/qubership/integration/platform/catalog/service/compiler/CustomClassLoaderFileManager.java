@@ -30,8 +30,12 @@ public class CustomClassLoaderFileManager extends ForwardingJavaFileManager<Java
     private final PackageInternalsFinder finder;
 
     public CustomClassLoaderFileManager(ClassLoader classLoader, JavaFileManager fileManager) {
+        this(new PackageInternalsFinder(classLoader), fileManager);
+    }
+
+    public CustomClassLoaderFileManager(PackageInternalsFinder finder, JavaFileManager fileManager) {
         super(fileManager);
-        this.finder = new PackageInternalsFinder(classLoader);
+        this.finder = finder;
     }
 
     @Override
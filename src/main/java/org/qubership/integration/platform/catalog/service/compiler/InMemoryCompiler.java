@@ -23,27 +23,40 @@ import lombok.extern.slf4j.Slf4j;
 
 import javax.tools.*;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
-public class InMemoryCompiler {
+public class InMemoryCompiler implements AutoCloseable {
+    private static final int DEFAULT_FILE_MANAGER_POOL_SIZE = 4;
+
+    private final JavaCompiler compiler;
+    private final StandardFileManagerPool fileManagerPool;
+    private final PackageInternalsFinder finder;
+
+    public InMemoryCompiler() {
+        this(DEFAULT_FILE_MANAGER_POOL_SIZE);
+    }
+
+    public InMemoryCompiler(int fileManagerPoolSize) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        this.fileManagerPool = new StandardFileManagerPool(compiler, fileManagerPoolSize);
+        this.finder = new PackageInternalsFinder(this.getClass().getClassLoader());
+    }
+
     public Map<String, byte[]> compile(Map<String, String> sources) throws CompilationError {
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
         FirstErrorCollectorDiagnosticListener<JavaFileObject> firstErrorCollector =
                 new FirstErrorCollectorDiagnosticListener<>();
         DiagnosticListener<? super JavaFileObject> diagnosticListener =
                 new CompoundDiagnosticListener<>(firstErrorCollector, new LoggingDiagnosticListener(log));
-        StandardJavaFileManager standardJavaFileManager = compiler.getStandardFileManager(diagnosticListener, null, null);
-        try (InMemoryFileManager fileManager = new InMemoryFileManager(
-                new CustomClassLoaderFileManager(
-                        this.getClass().getClassLoader(),
-                        standardJavaFileManager
-                )
-        )) {
+        StandardJavaFileManager standardJavaFileManager = fileManagerPool.acquire();
+        boolean reusable = false;
+        try {
+            // The pooled file manager must stay open, so the in-memory one is not closed here
+            InMemoryFileManager fileManager = new InMemoryFileManager(
+                    new CustomClassLoaderFileManager(finder, standardJavaFileManager));
             List<? extends JavaFileObject> compilationUnits = sources.entrySet().stream().map(entry -> {
                 String className = entry.getKey();
                 String code = entry.getValue();
@@ -52,6 +65,7 @@ public class InMemoryCompiler {
             JavaCompiler.CompilationTask compilationTask = compiler.getTask(
                     null, fileManager, diagnosticListener, null, null, compilationUnits);
             boolean isCompilationWasSuccessful = compilationTask.call();
+            reusable = true;
             if (!isCompilationWasSuccessful) {
                 String message = firstErrorCollector.getFirstErrorDiagnostic()
                         .map(error -> error.getMessage(Locale.getDefault()))
@@ -60,8 +74,17 @@ public class InMemoryCompiler {
             }
             return fileManager.getOutputFiles().stream().collect(
                     Collectors.toMap(JavaFileObject::getName, InMemoryOutputFileObject::getBytes));
-        } catch (IOException exception) {
-            throw new CompilationError("Failed to compile code.", exception);
+        } finally {
+            if (reusable) {
+                fileManagerPool.release(standardJavaFileManager);
+            } else {
+                fileManagerPool.discard(standardJavaFileManager);
+            }
         }
     }
+
+    @Override
+    public void close() {
+        fileManagerPool.close();
+    }
 }
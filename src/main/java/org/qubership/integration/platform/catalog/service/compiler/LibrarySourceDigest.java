@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.compiler;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+
+/**
+ * Builds a content address for a compiled library: the SHA-256 of the generated sources,
+ * the jar manifest, the compiler settings and the compile classpath. Libraries with the same digest
+ * have the same bytes.
+ * <p>
+ * The classpath is described by the names of its entries, jar names carry the dependency versions.
+ */
+public class LibrarySourceDigest {
+    private static final String FORMAT_VERSION = "2";
+    private static final String COMPILER_SETTINGS = "javac-" + Runtime.version().feature();
+    private static final String CLASSPATH = describeClasspath(LibrarySourceDigest.class.getClassLoader());
+
+    public static String compute(Map<String, String> sources, Manifest manifest) {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        update(digest, FORMAT_VERSION);
+        update(digest, COMPILER_SETTINGS);
+        update(digest, CLASSPATH);
+        for (Map.Entry<String, String> entry : new TreeMap<>(sources).entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, entry.getValue());
+        }
+        if (manifest != null) {
+            for (Map.Entry<String, String> attribute : toSortedStrings(manifest.getMainAttributes()).entrySet()) {
+                update(digest, attribute.getKey());
+                update(digest, attribute.getValue());
+            }
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Sorted names of the class path entries visible to the compiler, which uses the given class loader.
+     */
+    static String describeClasspath(ClassLoader classLoader) {
+        Set<String> entries = new TreeSet<>();
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            addEntryName(entries, entry);
+        }
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader urlClassLoader) {
+                for (URL url : urlClassLoader.getURLs()) {
+                    addEntryName(entries, url.toString());
+                }
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    // Nested jar URLs end with '!/', paths differ between hosts
+    private static void addEntryName(Set<String> entries, String entry) {
+        String name = StringUtils.stripEnd(entry, "!/\\");
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+        if (!name.isEmpty()) {
+            entries.add(name);
+        }
+    }
+
+    private static Map<String, String> toSortedStrings(Attributes attributes) {
+        Map<String, String> result = new TreeMap<>();
+        attributes.forEach((key, value) -> result.put(String.valueOf(key), String.valueOf(value)));
+        return result;
+    }
+
+    // Length prefix keeps ("ab", "c") and ("a", "bc") apart
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private LibrarySourceDigest() {
+    }
+}
@@ -16,30 +16,40 @@
 
 package org.qubership.integration.platform.catalog.service.compiler;
 
+import org.apache.commons.lang3.StringUtils;
+
 import javax.tools.JavaFileObject;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.JarURLConnection;
 import java.net.URI;
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Enumeration;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 
+import static java.util.Objects.isNull;
+
 /** Based on PackageInternalsFinder class from
  * <a href="http://atamur.blogspot.com/2009/10/using-built-in-javacompiler-with-custom.html">Using built-in JavaCompiler with a custom classloader</a>
- * post. */
+ * post.
+ * <p>
+ * Class files of each jar are indexed by package on the first lookup that touches the jar,
+ * so subsequent lookups are served from the index instead of walking the jar entries again.
+ * Jars that appear on the classpath later are indexed lazily as well.
+ */
 public class PackageInternalsFinder {
     private final ClassLoader classLoader;
+    private final Map<String, Map<String, List<JavaFileObject>>> jarIndex;
 
     public PackageInternalsFinder(ClassLoader classLoader) {
         this.classLoader = classLoader;
+        this.jarIndex = new ConcurrentHashMap<>();
     }
 
     public List<JavaFileObject> find(String packageName) throws IOException {
-        String javaPackageName = packageName.replaceAll("\\.", "/");
+        String javaPackageName = packageName.replace('.', '/');
 
         List<JavaFileObject> result = new ArrayList<>();
 
@@ -62,32 +72,42 @@ public class PackageInternalsFinder {
     }
 
     private List<JavaFileObject> processJar(URL packageFolderURL) {
-        List<JavaFileObject> result = new ArrayList<>();
         try {
             String jarUri = getJarUri(packageFolderURL);
-
             JarURLConnection jarConn = (JarURLConnection) packageFolderURL.openConnection();
-            String rootEntryName = jarConn.getEntryName();
-            int rootEnd = rootEntryName.length() + 1;
+            String rootEntryName = StringUtils.removeEnd(jarConn.getEntryName(), "/");
+            Map<String, List<JavaFileObject>> packages = jarIndex.get(jarUri);
+            if (isNull(packages)) {
+                packages = jarIndex.computeIfAbsent(jarUri, uri -> indexJar(uri, jarConn));
+            }
+            return packages.getOrDefault(rootEntryName, Collections.emptyList());
+        } catch (Exception e) {
+            throw new RuntimeException("Wasn't able to open " + packageFolderURL + " as a jar file", e);
+        }
+    }
 
+    private Map<String, List<JavaFileObject>> indexJar(String jarUri, JarURLConnection jarConn) {
+        Map<String, List<JavaFileObject>> packages = new HashMap<>();
+        try {
             Enumeration<JarEntry> entryEnum = jarConn.getJarFile().entries();
             while (entryEnum.hasMoreElements()) {
                 JarEntry jarEntry = entryEnum.nextElement();
                 String name = jarEntry.getName();
-                if (name.startsWith(rootEntryName)
-                        && name.indexOf('/', rootEnd) == -1
-                        && name.endsWith(JavaFileObject.Kind.CLASS.extension)) {
-                    URI uri = URI.create(jarUri + "!/" + name);
-                    String binaryName = name.replaceAll("/", ".");
-                    binaryName = binaryName.replaceAll(JavaFileObject.Kind.CLASS.extension + "$", "");
-
-                    result.add(new CustomJavaFileObject(binaryName, uri));
+                int packageEnd = name.lastIndexOf('/');
+                if (packageEnd < 0 || !name.endsWith(JavaFileObject.Kind.CLASS.extension)) {
+                    continue;
                 }
+                URI uri = URI.create(jarUri + "!/" + name);
+                String binaryName = name
+                        .substring(0, name.length() - JavaFileObject.Kind.CLASS.extension.length())
+                        .replace('/', '.');
+                packages.computeIfAbsent(name.substring(0, packageEnd), key -> new ArrayList<>())
+                        .add(new CustomJavaFileObject(binaryName, uri));
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Wasn't able to open " + packageFolderURL + " as a jar file", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return result;
+        return packages;
     }
 
     private String getJarUri(URL packageFolderUrl) {
@@ -103,9 +123,10 @@ public class PackageInternalsFinder {
         for (File childFile : childFiles) {
             if (childFile.isFile()) {
                 // We only want the .class files.
-                if (childFile.getName().endsWith(JavaFileObject.Kind.CLASS.extension)) {
-                    String binaryName = packageName + "." + childFile.getName();
-                    binaryName = binaryName.replaceAll(JavaFileObject.Kind.CLASS.extension + "$", "");
+                String fileName = childFile.getName();
+                if (fileName.endsWith(JavaFileObject.Kind.CLASS.extension)) {
+                    String binaryName = packageName + "." + fileName.substring(
+                            0, fileName.length() - JavaFileObject.Kind.CLASS.extension.length());
 
                     result.add(new CustomJavaFileObject(binaryName, childFile.toURI()));
                 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.compiler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps a bounded set of standard file managers alive between compilations.
+ * A standard file manager caches opened platform modules and archives, so reusing it
+ * avoids re-reading them on every compilation. File managers are not thread-safe,
+ * hence each one is leased to a single compilation at a time.
+ */
+@Slf4j
+public class StandardFileManagerPool implements AutoCloseable {
+    private final JavaCompiler compiler;
+    private final BlockingQueue<StandardJavaFileManager> idleFileManagers;
+
+    public StandardFileManagerPool(JavaCompiler compiler, int capacity) {
+        this.compiler = compiler;
+        this.idleFileManagers = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public StandardJavaFileManager acquire() {
+        StandardJavaFileManager fileManager = idleFileManagers.poll();
+        return isNull(fileManager)
+                ? compiler.getStandardFileManager(null, null, null)
+                : fileManager;
+    }
+
+    public void release(StandardJavaFileManager fileManager) {
+        try {
+            fileManager.flush();
+        } catch (IOException exception) {
+            log.warn("Failed to reset file manager, discarding it", exception);
+            closeQuietly(fileManager);
+            return;
+        }
+        if (!idleFileManagers.offer(fileManager)) {
+            closeQuietly(fileManager);
+        }
+    }
+
+    public void discard(StandardJavaFileManager fileManager) {
+        closeQuietly(fileManager);
+    }
+
+    @Override
+    public void close() {
+        StandardJavaFileManager fileManager;
+        while ((fileManager = idleFileManagers.poll()) != null) {
+            closeQuietly(fileManager);
+        }
+    }
+
+    private static void closeQuietly(StandardJavaFileManager fileManager) {
+        try {
+            fileManager.close();
+        } catch (IOException exception) {
+            log.warn("Failed to close file manager", exception);
+        }
+    }
+}
@@ -29,11 +29,8 @@ import org.springframework.stereotype.Service;
 import org.qubership.integration.platform.catalog.exception.ChainDifferenceClientException;
 import org.qubership.integration.platform.catalog.exception.ComparisonEntityNotFoundException;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * Finds the differences between two chains/snapshots.
@@ -153,19 +150,23 @@ public class ChainDifferenceService {
             List<ChainElement> rightElements,
             boolean differentChains
     ) {
-        List<DifferenceResult<ChainElement>> diffResults = new ArrayList<>();
-        List<String> processedElementIds = new ArrayList<>();
+        List<DifferenceResult<ChainElement>> diffResults = new ArrayList<>(leftElements.size() + rightElements.size());
+        Set<String> processedElementIds = new HashSet<>();
+        Function<ChainElement, Object> matchingKeyExtractor = differentChains
+                ? this::extractContentKey
+                : this::extractElementId;
+        Map<Object, Queue<ChainElement>> rightElementsByKey = indexElements(rightElements, matchingKeyExtractor);
 
         for (ChainElement leftElement : leftElements) {
             ChainElement comparableRightElement = null;
-            Queue<ChainElement> comparableRightElements = rightElements.stream()
-                    .filter(rightElement -> compareElements(leftElement, rightElement, differentChains))
-                    .collect(Collectors.toCollection(LinkedList::new));
-            while (comparableRightElements.peek() != null) {
-                ChainElement currentElement = comparableRightElements.poll();
-                if (comparableRightElement == null && !processedElementIds.contains(currentElement.getId())) {
-                    comparableRightElement = currentElement;
-                    processedElementIds.add(comparableRightElement.getId());
+            Queue<ChainElement> comparableRightElements = rightElementsByKey.get(matchingKeyExtractor.apply(leftElement));
+            if (comparableRightElements != null) {
+                // Candidates are kept in the right-hand order, so the first unprocessed one is the match
+                while (comparableRightElement == null && comparableRightElements.peek() != null) {
+                    ChainElement currentElement = comparableRightElements.poll();
+                    if (processedElementIds.add(currentElement.getId())) {
+                        comparableRightElement = currentElement;
+                    }
                 }
             }
             diffResults.add(chainElementDiffService.findDifferences(leftElement, comparableRightElement));
@@ -177,18 +178,23 @@ public class ChainDifferenceService {
         return diffResults;
     }
 
-    private boolean compareElements(ChainElement leftElement, ChainElement rightElement, boolean differentChains) {
-        if (!differentChains) {
-            String leftElementId = extractElementId(leftElement);
-            String rightElementId = extractElementId(rightElement);
-            return StringUtils.equals(leftElementId, rightElementId);
-        }
-        if (!StringUtils.equals(leftElement.getType(), rightElement.getType())) {
-            return false;
+    private Map<Object, Queue<ChainElement>> indexElements(
+            List<ChainElement> elements,
+            Function<ChainElement, Object> keyExtractor
+    ) {
+        Map<Object, Queue<ChainElement>> elementsByKey = new HashMap<>(elements.size() * 2);
+        for (ChainElement element : elements) {
+            elementsByKey.computeIfAbsent(keyExtractor.apply(element), key -> new ArrayDeque<>()).add(element);
         }
-        return StringUtils.equals(leftElement.getName(), rightElement.getName()) &&
-                StringUtils.equals(leftElement.getDescription(), rightElement.getDescription()) &&
-                leftElement.getProperties().equals(rightElement.getProperties());
+        return elementsByKey;
+    }
+
+    /**
+     * Builds a key that is equal for elements of different chains considered to be the same element:
+     * equal type, name, description and properties.
+     */
+    private Object extractContentKey(ChainElement element) {
+        return Arrays.asList(element.getType(), element.getName(), element.getDescription(), element.getProperties());
     }
 
     private List<ChainElement> filterOutElementsFromSwimlanes(List<ChainElement> elements) {
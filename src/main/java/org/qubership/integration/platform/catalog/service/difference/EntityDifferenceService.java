@@ -16,21 +16,20 @@
 
 package org.qubership.integration.platform.catalog.service.difference;
 
-import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.hibernate.proxy.HibernateProxy;
 
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
  * Finds the differences between two entities, using fields marked with {@link DifferenceMember}.
+ * Map fields are flattened, so each map entry is compared separately as {@code field.key}.
  *
  * @param <T> - entity type
  *
@@ -38,22 +37,41 @@ import java.util.stream.Collectors;
  */
 public abstract class EntityDifferenceService<T> {
 
-    private final List<Field> diffMemberFields;
+    private final List<DifferenceMemberAccessor> diffMemberAccessors;
 
     protected EntityDifferenceService(Class<T> type) {
-        this.diffMemberFields = FieldUtils.getFieldsListWithAnnotation(type, DifferenceMember.class);
+        this.diffMemberAccessors = FieldUtils.getFieldsListWithAnnotation(type, DifferenceMember.class).stream()
+                .map(DifferenceMemberAccessor::new)
+                .toList();
     }
 
     public DifferenceResult<T> findDifferences(@Nullable T leftOperand, @Nullable T rightOperand) {
         Map<String, Object> leftOperandMap = leftOperand != null ? convertObjectToMap(leftOperand) : Collections.emptyMap();
         Map<String, Object> rightOperandMap = rightOperand != null ? convertObjectToMap(rightOperand) : Collections.emptyMap();
-        MapDifference<String, Object> difference = Maps.difference(leftOperandMap, rightOperandMap);
+
+        // Same semantics and iteration order as Guava Maps.difference, without copying both maps
+        Set<String> onlyOnLeft = new LinkedHashSet<>();
+        Set<String> onlyOnRight = new LinkedHashSet<>();
+        Set<String> differing = new LinkedHashSet<>();
+        for (Map.Entry<String, Object> leftEntry : leftOperandMap.entrySet()) {
+            String key = leftEntry.getKey();
+            if (!rightOperandMap.containsKey(key)) {
+                onlyOnLeft.add(key);
+            } else if (!Objects.equals(leftEntry.getValue(), rightOperandMap.get(key))) {
+                differing.add(key);
+            }
+        }
+        for (String key : rightOperandMap.keySet()) {
+            if (!leftOperandMap.containsKey(key)) {
+                onlyOnRight.add(key);
+            }
+        }
         return new DifferenceResult<>(
                 leftOperand,
                 rightOperand,
-                difference.entriesOnlyOnLeft().keySet(),
-                difference.entriesOnlyOnRight().keySet(),
-                difference.entriesDiffering().keySet()
+                Collections.unmodifiableSet(onlyOnLeft),
+                Collections.unmodifiableSet(onlyOnRight),
+                Collections.unmodifiableSet(differing)
         );
     }
 
@@ -64,28 +82,58 @@ public abstract class EntityDifferenceService<T> {
         } else {
             finalObject = object;
         }
-        return diffMemberFields.stream()
-                .flatMap(field -> {
-                    try {
-                        field.setAccessible(true);
-                        Object fieldValue = field.get(finalObject);
-                        Map<String, Object> resultMap = new HashMap<>();
-                        if (fieldValue instanceof Map<?,?> fieldValueMap) {
-                            for (Object key : fieldValueMap.keySet()) {
-                                Object value = fieldValueMap.get(key);
-                                if (value != null) {
-                                    resultMap.put(field.getName() + "." + key, value);
-                                }
-                            }
-                        } else {
-                            resultMap.put(field.getName(), fieldValue);
-                        }
-                        return resultMap.entrySet().stream();
-                    } catch (IllegalAccessException e) {
-                        throw new RuntimeException(e);
+
+        Object[] fieldValues = new Object[diffMemberAccessors.size()];
+        int expectedSize = 0;
+        for (int i = 0; i < fieldValues.length; i++) {
+            fieldValues[i] = diffMemberAccessors.get(i).get(finalObject);
+            expectedSize += fieldValues[i] instanceof Map<?, ?> fieldValueMap ? fieldValueMap.size() : 1;
+        }
+
+        Map<String, Object> resultMap = Maps.newHashMapWithExpectedSize(expectedSize);
+        for (int i = 0; i < fieldValues.length; i++) {
+            DifferenceMemberAccessor accessor = diffMemberAccessors.get(i);
+            if (fieldValues[i] instanceof Map<?, ?> fieldValueMap) {
+                for (Map.Entry<?, ?> entry : fieldValueMap.entrySet()) {
+                    if (entry.getValue() != null) {
+                        resultMap.put(accessor.keyPrefix + entry.getKey(), entry.getValue());
                     }
-                })
-                .filter(entry -> entry.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                }
+            } else if (fieldValues[i] != null) {
+                resultMap.put(accessor.name, fieldValues[i]);
+            }
+        }
+        return resultMap;
+    }
+
+    /**
+     * Getter for a {@link DifferenceMember} field, resolved once per entity type.
+     */
+    private static final class DifferenceMemberAccessor {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final String name;
+        private final String keyPrefix;
+        private final MethodHandle getter;
+
+        private DifferenceMemberAccessor(Field field) {
+            this.name = field.getName();
+            this.keyPrefix = field.getName() + ".";
+            try {
+                this.getter = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                        .unreflectGetter(field)
+                        .asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private Object get(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 }
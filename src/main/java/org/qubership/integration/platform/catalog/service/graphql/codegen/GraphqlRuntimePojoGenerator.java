@@ -30,15 +30,8 @@ import org.qubership.integration.platform.catalog.persistence.configs.entity.sys
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
-import org.apache.velocity.runtime.RuntimeConstants;
-import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 
-import java.io.StringWriter;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,24 +49,18 @@ public class GraphqlRuntimePojoGenerator {
     private final GenerateCodeCommonConfiguration configuration;
 
     /**
-     * The Velocity engine, that will merge the templates with their context
+     * The shared template engine, that will merge the templates with their context
      */
-    private final VelocityEngine velocityEngine;
+    private final GraphqlTemplateEngine templateEngine;
 
-    public GraphqlRuntimePojoGenerator(GraphqlCodeDocumentParser parser, GenerateCodeCommonConfiguration configuration) {
+    public GraphqlRuntimePojoGenerator(
+            GraphqlCodeDocumentParser parser,
+            GenerateCodeCommonConfiguration configuration,
+            GraphqlTemplateEngine templateEngine
+    ) {
         this.parser = parser;
         this.configuration = configuration;
-
-        // Initialization for Velocity
-        velocityEngine = new VelocityEngine();
-
-        velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, "classpath, file");
-
-        // Configuration for 'real' executions of the plugin (that is: from the plugin's packaged jar)
-        velocityEngine.setProperty("resource.loader.classpath.description", "Velocity Classpath Resource Loader");
-        velocityEngine.setProperty("resource.loader.classpath.class", ClasspathResourceLoader.class.getName());
-
-        velocityEngine.init();
+        this.templateEngine = templateEngine;
     }
 
     public Map<String, String> generateCode(SystemModel model) throws Exception {
@@ -123,8 +110,9 @@ public class GraphqlRuntimePojoGenerator {
             String type,
             String templateFilename
     ) throws RuntimeException {
+        VelocityContext baseContext = getVelocityContext(parser);
         return objects.stream().filter(Objects::nonNull)
-                .map(object -> generateObjectCode(object, type, templateFilename, parser))
+                .map(object -> generateObjectCode(object, type, templateFilename, baseContext))
                 .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
     }
 
@@ -132,31 +120,25 @@ public class GraphqlRuntimePojoGenerator {
             Type object,
             String type,
             String templateFilename,
-            GraphqlCodeDocumentParser parser
+            VelocityContext baseContext
     ) {
-        String targetFileName = (String) execWithOneStringParam("getTargetFileName", object, type);
+        String targetFileName = object.getTargetFileName(type);
         if (type.equals("executor") && configuration.getSpringBeanSuffix() != null) {
             targetFileName += configuration.getSpringBeanSuffix();
         }
         String fullyQualifiedClassName = getFullyQualifiedClassName(targetFileName);
 
-        VelocityContext context = getVelocityContext(parser);
+        // Object specific values are put into a chained context, so the defaults are filled only once
+        VelocityContext context = new VelocityContext(baseContext);
         context.put("object", object);
         context.put("targetFileName", targetFileName);
         context.put("type", type);
 
         log.debug("Generating {} '{}' into {}", type, object.getName(), fullyQualifiedClassName);
-        String code = instantiateTemplate(context, templateFilename);
+        String code = templateEngine.render(templateFilename, context);
         return Pair.of(fullyQualifiedClassName, code);
     }
 
-    private String instantiateTemplate(VelocityContext context, String templateFilename) {
-        StringWriter writer = new StringWriter();
-        Template template = velocityEngine.getTemplate(templateFilename, "UTF-8");
-        template.merge(context, writer);
-        return writer.toString();
-    }
-
     private String getFullyQualifiedClassName(String simpleClassName) {
         String packageName = simpleClassName.startsWith("SpringConfiguration")
                 ? configuration.getSpringAutoConfigurationPackage()
@@ -165,23 +147,6 @@ public class GraphqlRuntimePojoGenerator {
     }
 
 
-    /**
-     * Calls the 'methodName' method on the given object
-     *
-     * @param methodName The name of the method name
-     * @param object     The given node, on which the 'methodName' method is to be called
-     */
-    private Object execWithOneStringParam(String methodName, Object object, String param) {
-        try {
-            Method getType = object.getClass().getMethod(methodName, String.class);
-            return getType.invoke(object, param);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
-                 | SecurityException e) {
-            throw new RuntimeException("Error when trying to execute '" + methodName + "' (with a String param) on '"
-                    + object.getClass().getName() + "': " + e.getMessage(), e);
-        }
-    }
-
     /**
      * Returns a {@link VelocityContext} with all default values filled.
      */
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.graphql.codegen;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.context.Context;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide Velocity engine for GraphQL code generation.
+ * Templates are parsed once and kept; parsed templates are safe to merge from several threads.
+ */
+public class GraphqlTemplateEngine {
+    private static final String TEMPLATE_ENCODING = "UTF-8";
+
+    private final VelocityEngine velocityEngine;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    public GraphqlTemplateEngine() {
+        velocityEngine = new VelocityEngine();
+
+        velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, "classpath, file");
+
+        // Configuration for 'real' executions of the plugin (that is: from the plugin's packaged jar)
+        velocityEngine.setProperty("resource.loader.classpath.description", "Velocity Classpath Resource Loader");
+        velocityEngine.setProperty("resource.loader.classpath.class", ClasspathResourceLoader.class.getName());
+        velocityEngine.setProperty("resource.loader.classpath.cache", true);
+
+        velocityEngine.init();
+    }
+
+    public String render(String templateName, Context context) {
+        Template template = templates.computeIfAbsent(templateName,
+                name -> velocityEngine.getTemplate(name, TEMPLATE_ENCODING));
+        StringWriter writer = new StringWriter();
+        template.merge(context, writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.grpc.codegen;
+
+public enum GrpcCodeGenerationMode {
+    /**
+     * Sources are generated by the protoc binary with the grpc-java plugin.
+     */
+    PROTOC,
+    /**
+     * Sources are generated in-process from descriptors built from the Wire schema model.
+     * <p>
+     * Not a drop-in replacement for {@link #PROTOC}: message classes are backed by
+     * {@link com.google.protobuf.DynamicMessage} and have no typed field accessors or builders,
+     * and no server-side {@code ImplBase} is generated for services. Files using extend declarations,
+     * groups or custom options are rejected.
+     */
+    IN_MEMORY
+}
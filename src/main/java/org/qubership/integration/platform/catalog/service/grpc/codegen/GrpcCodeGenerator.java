@@ -36,6 +36,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.Semaphore;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
@@ -50,16 +51,26 @@ public class GrpcCodeGenerator implements SystemModelCodeGenerator {
     private final String workDirectory;
     private final String protocCompiler;
     private final String grpcJavaPlugin;
+    private final Semaphore protocPermits;
+    private final GrpcCodeGenerationMode generationMode;
+    private final ProtobufDescriptorBuilder descriptorBuilder;
+    private final InMemoryGrpcSourceGenerator inMemorySourceGenerator;
 
     @Autowired
     public GrpcCodeGenerator(
             @Value("${protoc.work-directory}") String workDirectory,
             @Value("${protoc.compiler}") String protocCompiler,
-            @Value("${protoc.grpc-java-plugin}") String grpcJavaPlugin
+            @Value("${protoc.grpc-java-plugin}") String grpcJavaPlugin,
+            @Value("${protoc.max-concurrent-processes:4}") int maxConcurrentProcesses,
+            @Value("${protoc.generation-mode:PROTOC}") GrpcCodeGenerationMode generationMode
     ) {
         this.workDirectory = workDirectory;
         this.protocCompiler = protocCompiler;
         this.grpcJavaPlugin = grpcJavaPlugin;
+        this.protocPermits = new Semaphore(maxConcurrentProcesses, true);
+        this.generationMode = generationMode;
+        this.descriptorBuilder = new ProtobufDescriptorBuilder();
+        this.inMemorySourceGenerator = new InMemoryGrpcSourceGenerator();
     }
 
     @Override
@@ -71,6 +82,18 @@ public class GrpcCodeGenerator implements SystemModelCodeGenerator {
 
     @Override
     public Map<String, String> generateCode(SystemModel model) throws Exception {
+        return GrpcCodeGenerationMode.IN_MEMORY.equals(generationMode)
+                ? generateCodeInMemory(model)
+                : generateCodeUsingProtoc(model);
+    }
+
+    private Map<String, String> generateCodeInMemory(SystemModel model) throws Exception {
+        log.debug("Generating gRPC sources in memory for system model with id {}", model.getId());
+        return inMemorySourceGenerator.generate(
+                descriptorBuilder.build(model.getSpecificationSources()).values());
+    }
+
+    private Map<String, String> generateCodeUsingProtoc(SystemModel model) throws Exception {
         Path rootDirectory = Paths.get(workDirectory, UUID.randomUUID().toString()).toAbsolutePath();
         try {
             Path sourceDirectory = rootDirectory.resolve("src");
@@ -109,9 +132,16 @@ public class GrpcCodeGenerator implements SystemModelCodeGenerator {
         buildProtobufCompilerArgsFile(protocArgsFile, inputFiles, protocPath, outputFile);
 
         String command = String.format("%s @%s", protocCompiler, protocArgsFile);
-        log.debug("Invoking Protobuf compiler: {}", command);
-        Process process = Runtime.getRuntime().exec(command);
-        int exitCode = process.waitFor();
+        int exitCode;
+        Process process;
+        protocPermits.acquire();
+        try {
+            log.debug("Invoking Protobuf compiler: {}", command);
+            process = Runtime.getRuntime().exec(command);
+            exitCode = process.waitFor();
+        } finally {
+            protocPermits.release();
+        }
         if (exitCode != 0) {
             String compilerOutput = new String(IOUtils.toByteArray(process.getErrorStream()))
                     .replace(rootDirectory.toString(), "");
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.grpc.codegen;
+
+import com.google.protobuf.Descriptors;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.lang.model.SourceVersion;
+import java.util.*;
+
+import static org.qubership.integration.platform.catalog.service.grpc.codegen.ProtobufDescriptorBuilder.toCamelCase;
+
+/**
+ * Generates Java sources for protobuf descriptors without invoking protoc.
+ * <p>
+ * The layout follows protoc: an outer class per .proto file holding the file descriptor,
+ * a class per message and enum (nested into the outer class unless {@code java_multiple_files} is set),
+ * and a {@code <Service>Grpc} class per service with method descriptors and client stubs.
+ * Messages are represented by {@link com.google.protobuf.DynamicMessage}: message classes expose
+ * {@code getDescriptor()}, {@code getDefaultInstance()}, {@code newBuilder()} and {@code parser()},
+ * but no typed field accessors. Server-side service bases are not generated.
+ */
+public class InMemoryGrpcSourceGenerator {
+    private static final int DESCRIPTOR_CHUNK_SIZE = 16 * 1024;
+    private static final String INDENT = "    ";
+    private static final String DYNAMIC_MESSAGE = "com.google.protobuf.DynamicMessage";
+    private static final String STREAM_OBSERVER = "io.grpc.stub.StreamObserver<" + DYNAMIC_MESSAGE + ">";
+    private static final String METHOD_DESCRIPTOR = "io.grpc.MethodDescriptor<" + DYNAMIC_MESSAGE + ", " + DYNAMIC_MESSAGE + ">";
+    private static final String CLIENT_CALLS = "io.grpc.stub.ClientCalls";
+
+    public Map<String, String> generate(Collection<Descriptors.FileDescriptor> files) {
+        Map<String, String> sources = new LinkedHashMap<>();
+        files.forEach(file -> generateFile(file, sources));
+        return sources;
+    }
+
+    private void generateFile(Descriptors.FileDescriptor file, Map<String, String> sources) {
+        String javaPackage = getJavaPackage(file);
+        String outerClassName = getOuterClassName(file);
+        String outerClassReference = qualify(javaPackage, outerClassName);
+        boolean multipleFiles = file.getOptions().getJavaMultipleFiles();
+
+        StringBuilder outer = new StringBuilder();
+        appendPackage(outer, javaPackage);
+        outer.append("public final class ").append(outerClassName).append(" {\n");
+        line(outer, 1, "private " + outerClassName + "() {");
+        line(outer, 1, "}");
+        outer.append('\n');
+        appendDescriptorData(outer, file);
+        outer.append('\n');
+        line(outer, 1, "public static com.google.protobuf.Descriptors.FileDescriptor getDescriptor() {");
+        line(outer, 2, "return descriptor;");
+        line(outer, 1, "}");
+
+        String fileDescriptor = outerClassReference + ".getDescriptor()";
+        for (Descriptors.Descriptor message : file.getMessageTypes()) {
+            String lookup = fileDescriptor + ".findMessageTypeByName(\"" + message.getName() + "\")";
+            if (multipleFiles) {
+                StringBuilder sb = new StringBuilder();
+                appendPackage(sb, javaPackage);
+                appendMessage(sb, 0, message, lookup, false);
+                sources.put(qualify(javaPackage, message.getName()), sb.toString());
+            } else {
+                outer.append('\n');
+                appendMessage(outer, 1, message, lookup, true);
+            }
+        }
+        for (Descriptors.EnumDescriptor enumDescriptor : file.getEnumTypes()) {
+            String lookup = fileDescriptor + ".findEnumTypeByName(\"" + enumDescriptor.getName() + "\")";
+            if (multipleFiles) {
+                StringBuilder sb = new StringBuilder();
+                appendPackage(sb, javaPackage);
+                appendEnum(sb, 0, enumDescriptor, lookup);
+                sources.put(qualify(javaPackage, enumDescriptor.getName()), sb.toString());
+            } else {
+                outer.append('\n');
+                appendEnum(outer, 1, enumDescriptor, lookup);
+            }
+        }
+        outer.append("}\n");
+        sources.put(outerClassReference, outer.toString());
+
+        for (Descriptors.ServiceDescriptor service : file.getServices()) {
+            String className = service.getName() + "Grpc";
+            sources.put(qualify(javaPackage, className),
+                    generateService(javaPackage, className, service, fileDescriptor));
+        }
+    }
+
+    private void appendDescriptorData(StringBuilder sb, Descriptors.FileDescriptor file) {
+        String data = Base64.getEncoder().encodeToString(file.toProto().toByteArray());
+        line(sb, 1, "// Serialized FileDescriptorProto, split to keep each constant within class file limits");
+        line(sb, 1, "private static final String[] DESCRIPTOR_DATA = {");
+        for (int start = 0; start < data.length(); start += DESCRIPTOR_CHUNK_SIZE) {
+            line(sb, 3, "\"" + data.substring(start, Math.min(data.length(), start + DESCRIPTOR_CHUNK_SIZE)) + "\",");
+        }
+        line(sb, 1, "};");
+        sb.append('\n');
+        line(sb, 1, "private static final com.google.protobuf.Descriptors.FileDescriptor descriptor;");
+        sb.append('\n');
+        line(sb, 1, "static {");
+        line(sb, 2, "try {");
+        line(sb, 3, "descriptor = com.google.protobuf.Descriptors.FileDescriptor.buildFrom(");
+        line(sb, 5, "com.google.protobuf.DescriptorProtos.FileDescriptorProto.parseFrom(");
+        line(sb, 7, "java.util.Base64.getDecoder().decode(String.join(\"\", DESCRIPTOR_DATA))),");
+        line(sb, 5, "new com.google.protobuf.Descriptors.FileDescriptor[] {");
+        for (Descriptors.FileDescriptor dependency : file.getDependencies()) {
+            line(sb, 7, qualify(getJavaPackage(dependency), getOuterClassName(dependency)) + ".getDescriptor(),");
+        }
+        line(sb, 5, "});");
+        line(sb, 2, "} catch (Exception exception) {");
+        line(sb, 3, "throw new ExceptionInInitializerError(exception);");
+        line(sb, 2, "}");
+        line(sb, 1, "}");
+    }
+
+    private void appendMessage(
+            StringBuilder sb,
+            int level,
+            Descriptors.Descriptor message,
+            String descriptorLookup,
+            boolean nested
+    ) {
+        String name = message.getName();
+        line(sb, level, "public " + (nested ? "static " : "") + "final class " + name + " {");
+        line(sb, level + 1, "private " + name + "() {");
+        line(sb, level + 1, "}");
+        sb.append('\n');
+        line(sb, level + 1, "public static com.google.protobuf.Descriptors.Descriptor getDescriptor() {");
+        line(sb, level + 2, "return " + descriptorLookup + ";");
+        line(sb, level + 1, "}");
+        sb.append('\n');
+        line(sb, level + 1, "public static " + DYNAMIC_MESSAGE + " getDefaultInstance() {");
+        line(sb, level + 2, "return " + DYNAMIC_MESSAGE + ".getDefaultInstance(getDescriptor());");
+        line(sb, level + 1, "}");
+        sb.append('\n');
+        line(sb, level + 1, "public static " + DYNAMIC_MESSAGE + ".Builder newBuilder() {");
+        line(sb, level + 2, "return " + DYNAMIC_MESSAGE + ".newBuilder(getDescriptor());");
+        line(sb, level + 1, "}");
+        sb.append('\n');
+        line(sb, level + 1, "public static com.google.protobuf.Parser<" + DYNAMIC_MESSAGE + "> parser() {");
+        line(sb, level + 2, "return getDefaultInstance().getParserForType();");
+        line(sb, level + 1, "}");
+        for (Descriptors.Descriptor nestedMessage : message.getNestedTypes()) {
+            if (nestedMessage.getOptions().getMapEntry()) {
+                continue;
+            }
+            sb.append('\n');
+            appendMessage(sb, level + 1, nestedMessage,
+                    name + ".getDescriptor().findNestedTypeByName(\"" + nestedMessage.getName() + "\")", true);
+        }
+        for (Descriptors.EnumDescriptor nestedEnum : message.getEnumTypes()) {
+            sb.append('\n');
+            appendEnum(sb, level + 1, nestedEnum,
+                    name + ".getDescriptor().findEnumTypeByName(\"" + nestedEnum.getName() + "\")");
+        }
+        line(sb, level, "}");
+    }
+
+    private void appendEnum(StringBuilder sb, int level, Descriptors.EnumDescriptor enumDescriptor, String descriptorLookup) {
+        String name = enumDescriptor.getName();
+        line(sb, level, "public enum " + name + " {");
+        List<Descriptors.EnumValueDescriptor> values = enumDescriptor.getValues();
+        for (int i = 0; i < values.size(); ++i) {
+            Descriptors.EnumValueDescriptor value = values.get(i);
+            line(sb, level + 1, escape(value.getName()) + "(" + value.getNumber() + ")"
+                    + (i < values.size() - 1 ? "," : ";"));
+        }
+        sb.append('\n');
+        line(sb, level + 1, "private final int number;");
+        sb.append('\n');
+        line(sb, level + 1, name + "(int number) {");
+        line(sb, level + 2, "this.number = number;");
+        line(sb, level + 1, "}");
+        sb.append('\n');
+        line(sb, level + 1, "public int getNumber() {");
+        line(sb, level + 2, "return number;");
+        line(sb, level + 1, "}");
+        sb.append('\n');
+        line(sb, level + 1, "public static " + name + " forNumber(int number) {");
+        line(sb, level + 2, "for (" + name + " value : values()) {");
+        line(sb, level + 3, "if (value.number == number) {");
+        line(sb, level + 4, "return value;");
+        line(sb, level + 3, "}");
+        line(sb, level + 2, "}");
+        line(sb, level + 2, "return null;");
+        line(sb, level + 1, "}");
+        sb.append('\n');
+        line(sb, level + 1, "public com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {");
+        line(sb, level + 2, "return getDescriptor().findValueByNumber(number);");
+        line(sb, level + 1, "}");
+        sb.append('\n');
+        line(sb, level + 1, "public static com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {");
+        line(sb, level + 2, "return " + descriptorLookup + ";");
+        line(sb, level + 1, "}");
+        line(sb, level, "}");
+    }
+
+    private String generateService(
+            String javaPackage,
+            String className,
+            Descriptors.ServiceDescriptor service,
+            String fileDescriptor
+    ) {
+        String serviceName = service.getName();
+        StringBuilder sb = new StringBuilder();
+        appendPackage(sb, javaPackage);
+        sb.append("public final class ").append(className).append(" {\n");
+        line(sb, 1, "public static final String SERVICE_NAME = \"" + service.getFullName() + "\";");
+        sb.append('\n');
+        for (Descriptors.MethodDescriptor method : service.getMethods()) {
+            line(sb, 1, "private static final " + METHOD_DESCRIPTOR + " " + methodField(method)
+                    + " = buildMethod(\"" + method.getName() + "\", io.grpc.MethodDescriptor.MethodType."
+                    + getMethodType(method) + ");");
+        }
+        sb.append('\n');
+        line(sb, 1, "private static final io.grpc.ServiceDescriptor SERVICE_DESCRIPTOR =");
+        line(sb, 3, "io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)");
+        for (Descriptors.MethodDescriptor method : service.getMethods()) {
+            line(sb, 5, ".addMethod(" + methodField(method) + ")");
+        }
+        line(sb, 5, ".build();");
+        sb.append('\n');
+        line(sb, 1, "private " + className + "() {");
+        line(sb, 1, "}");
+        sb.append('\n');
+        line(sb, 1, "public static com.google.protobuf.Descriptors.ServiceDescriptor getDescriptor() {");
+        line(sb, 2, "return " + fileDescriptor + ".findServiceByName(\"" + serviceName + "\");");
+        line(sb, 1, "}");
+        sb.append('\n');
+        line(sb, 1, "public static io.grpc.ServiceDescriptor getServiceDescriptor() {");
+        line(sb, 2, "return SERVICE_DESCRIPTOR;");
+        line(sb, 1, "}");
+        for (Descriptors.MethodDescriptor method : service.getMethods()) {
+            sb.append('\n');
+            line(sb, 1, "public static " + METHOD_DESCRIPTOR + " get" + method.getName() + "Method() {");
+            line(sb, 2, "return " + methodField(method) + ";");
+            line(sb, 1, "}");
+        }
+        sb.append('\n');
+        line(sb, 1, "private static " + METHOD_DESCRIPTOR + " buildMethod(");
+        line(sb, 3, "String name,");
+        line(sb, 3, "io.grpc.MethodDescriptor.MethodType type");
+        line(sb, 1, ") {");
+        line(sb, 2, "com.google.protobuf.Descriptors.MethodDescriptor method = getDescriptor().findMethodByName(name);");
+        line(sb, 2, "return io.grpc.MethodDescriptor.<" + DYNAMIC_MESSAGE + ", " + DYNAMIC_MESSAGE + ">newBuilder()");
+        line(sb, 4, ".setType(type)");
+        line(sb, 4, ".setFullMethodName(io.grpc.MethodDescriptor.generateFullMethodName(SERVICE_NAME, name))");
+        line(sb, 4, ".setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(");
+        line(sb, 6, DYNAMIC_MESSAGE + ".getDefaultInstance(method.getInputType())))");
+        line(sb, 4, ".setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(");
+        line(sb, 6, DYNAMIC_MESSAGE + ".getDefaultInstance(method.getOutputType())))");
+        line(sb, 4, ".build();");
+        line(sb, 1, "}");
+
+        appendStubFactory(sb, serviceName + "Stub", "newStub");
+        appendStubFactory(sb, serviceName + "BlockingStub", "newBlockingStub");
+        appendStubFactory(sb, serviceName + "FutureStub", "newFutureStub");
+
+        appendStub(sb, serviceName + "Stub", "AbstractAsyncStub", service.getMethods(), this::appendAsyncCall);
+        appendStub(sb, serviceName + "BlockingStub", "AbstractBlockingStub", service.getMethods(), this::appendBlockingCall);
+        appendStub(sb, serviceName + "FutureStub", "AbstractFutureStub", service.getMethods(), this::appendFutureCall);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private void appendStubFactory(StringBuilder sb, String stubClassName, String factoryMethodName) {
+        sb.append('\n');
+        line(sb, 1, "public static " + stubClassName + " " + factoryMethodName + "(io.grpc.Channel channel) {");
+        line(sb, 2, "return new " + stubClassName + "(channel, io.grpc.CallOptions.DEFAULT);");
+        line(sb, 1, "}");
+    }
+
+    private void appendStub(
+            StringBuilder sb,
+            String stubClassName,
+            String baseClassName,
+            List<Descriptors.MethodDescriptor> methods,
+            StubMethodWriter methodWriter
+    ) {
+        sb.append('\n');
+        line(sb, 1, "public static final class " + stubClassName
+                + " extends io.grpc.stub." + baseClassName + "<" + stubClassName + "> {");
+        line(sb, 2, "private " + stubClassName + "(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {");
+        line(sb, 3, "super(channel, callOptions);");
+        line(sb, 2, "}");
+        sb.append('\n');
+        line(sb, 2, "@Override");
+        line(sb, 2, "protected " + stubClassName + " build(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {");
+        line(sb, 3, "return new " + stubClassName + "(channel, callOptions);");
+        line(sb, 2, "}");
+        methods.forEach(method -> methodWriter.write(sb, method));
+        line(sb, 1, "}");
+    }
+
+    private void appendAsyncCall(StringBuilder sb, Descriptors.MethodDescriptor method) {
+        String name = stubMethodName(method);
+        String call = "getChannel().newCall(" + methodField(method) + ", getCallOptions())";
+        sb.append('\n');
+        if (method.isClientStreaming()) {
+            line(sb, 2, "public " + STREAM_OBSERVER + " " + name + "(" + STREAM_OBSERVER + " responseObserver) {");
+            line(sb, 3, "return " + CLIENT_CALLS + "." + (method.isServerStreaming()
+                    ? "asyncBidiStreamingCall" : "asyncClientStreamingCall") + "(" + call + ", responseObserver);");
+        } else {
+            line(sb, 2, "public void " + name + "(" + DYNAMIC_MESSAGE + " request, "
+                    + STREAM_OBSERVER + " responseObserver) {");
+            line(sb, 3, CLIENT_CALLS + "." + (method.isServerStreaming()
+                    ? "asyncServerStreamingCall" : "asyncUnaryCall") + "(" + call + ", request, responseObserver);");
+        }
+        line(sb, 2, "}");
+    }
+
+    private void appendBlockingCall(StringBuilder sb, Descriptors.MethodDescriptor method) {
+        if (method.isClientStreaming()) {
+            return;
+        }
+        sb.append('\n');
+        String arguments = "(getChannel(), " + methodField(method) + ", getCallOptions(), request)";
+        if (method.isServerStreaming()) {
+            line(sb, 2, "public java.util.Iterator<" + DYNAMIC_MESSAGE + "> " + stubMethodName(method)
+                    + "(" + DYNAMIC_MESSAGE + " request) {");
+            line(sb, 3, "return " + CLIENT_CALLS + ".blockingServerStreamingCall" + arguments + ";");
+        } else {
+            line(sb, 2, "public " + DYNAMIC_MESSAGE + " " + stubMethodName(method) + "(" + DYNAMIC_MESSAGE + " request) {");
+            line(sb, 3, "return " + CLIENT_CALLS + ".blockingUnaryCall" + arguments + ";");
+        }
+        line(sb, 2, "}");
+    }
+
+    private void appendFutureCall(StringBuilder sb, Descriptors.MethodDescriptor method) {
+        if (method.isClientStreaming() || method.isServerStreaming()) {
+            return;
+        }
+        sb.append('\n');
+        line(sb, 2, "public com.google.common.util.concurrent.ListenableFuture<" + DYNAMIC_MESSAGE + "> "
+                + stubMethodName(method) + "(" + DYNAMIC_MESSAGE + " request) {");
+        line(sb, 3, "return " + CLIENT_CALLS + ".futureUnaryCall(getChannel().newCall("
+                + methodField(method) + ", getCallOptions()), request);");
+        line(sb, 2, "}");
+    }
+
+    private static String getMethodType(Descriptors.MethodDescriptor method) {
+        if (method.isClientStreaming()) {
+            return method.isServerStreaming() ? "BIDI_STREAMING" : "CLIENT_STREAMING";
+        }
+        return method.isServerStreaming() ? "SERVER_STREAMING" : "UNARY";
+    }
+
+    private static String methodField(Descriptors.MethodDescriptor method) {
+        return "METHOD_" + method.getName();
+    }
+
+    private static String stubMethodName(Descriptors.MethodDescriptor method) {
+        return escape(StringUtils.uncapitalize(toCamelCase(method.getName(), true)));
+    }
+
+    public static String getJavaPackage(Descriptors.FileDescriptor file) {
+        return file.getOptions().hasJavaPackage() ? file.getOptions().getJavaPackage() : file.getPackage();
+    }
+
+    public static String getOuterClassName(Descriptors.FileDescriptor file) {
+        if (file.getOptions().hasJavaOuterClassname()) {
+            return file.getOptions().getJavaOuterClassname();
+        }
+        String baseName = StringUtils.removeEnd(StringUtils.substringAfterLast("/" + file.getName(), "/"), ".proto");
+        String name = toCamelCase(baseName, true);
+        Set<String> topLevelNames = new HashSet<>();
+        file.getMessageTypes().forEach(type -> topLevelNames.add(type.getName()));
+        file.getEnumTypes().forEach(type -> topLevelNames.add(type.getName()));
+        file.getServices().forEach(type -> topLevelNames.add(type.getName()));
+        return topLevelNames.contains(name) ? name + "OuterClass" : name;
+    }
+
+    private static String qualify(String javaPackage, String className) {
+        return StringUtils.isEmpty(javaPackage) ? className : javaPackage + "." + className;
+    }
+
+    private static String escape(String name) {
+        return SourceVersion.isKeyword(name) ? name + "_" : name;
+    }
+
+    private static void appendPackage(StringBuilder sb, String javaPackage) {
+        if (StringUtils.isNotEmpty(javaPackage)) {
+            sb.append("package ").append(javaPackage).append(";\n\n");
+        }
+    }
+
+    private static void line(StringBuilder sb, int level, String text) {
+        sb.append(INDENT.repeat(level)).append(text).append('\n');
+    }
+
+    @FunctionalInterface
+    private interface StubMethodWriter {
+        void write(StringBuilder sb, Descriptors.MethodDescriptor method);
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.grpc.codegen;
+
+import com.google.protobuf.*;
+import com.google.protobuf.DescriptorProtos.*;
+import com.squareup.wire.Syntax;
+import com.squareup.wire.schema.Field;
+import com.squareup.wire.schema.Location;
+import com.squareup.wire.schema.internal.parser.*;
+import kotlin.ranges.IntRange;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationSource;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Builds protobuf descriptors from .proto sources parsed by Wire, without invoking protoc.
+ * Type references are left relative, so they are resolved by {@link Descriptors.FileDescriptor#buildFrom}
+ * following the protobuf scoping rules.
+ * <p>
+ * Extend declarations, groups and custom options are rejected rather than silently dropped,
+ * as building them requires resolving option and extension types against descriptor.proto.
+ */
+public class ProtobufDescriptorBuilder {
+    private static final Pattern MAP_TYPE_PATTERN =
+            Pattern.compile("^map<\\s*([a-zA-Z0-9_\\-.]+)\\s*,\\s*([a-zA-Z0-9_\\-.]+)\\s*>$");
+
+    private static final Map<String, FieldDescriptorProto.Type> SCALAR_TYPES = Map.ofEntries(
+            Map.entry("double", FieldDescriptorProto.Type.TYPE_DOUBLE),
+            Map.entry("float", FieldDescriptorProto.Type.TYPE_FLOAT),
+            Map.entry("int64", FieldDescriptorProto.Type.TYPE_INT64),
+            Map.entry("uint64", FieldDescriptorProto.Type.TYPE_UINT64),
+            Map.entry("int32", FieldDescriptorProto.Type.TYPE_INT32),
+            Map.entry("fixed64", FieldDescriptorProto.Type.TYPE_FIXED64),
+            Map.entry("fixed32", FieldDescriptorProto.Type.TYPE_FIXED32),
+            Map.entry("bool", FieldDescriptorProto.Type.TYPE_BOOL),
+            Map.entry("string", FieldDescriptorProto.Type.TYPE_STRING),
+            Map.entry("bytes", FieldDescriptorProto.Type.TYPE_BYTES),
+            Map.entry("uint32", FieldDescriptorProto.Type.TYPE_UINT32),
+            Map.entry("sfixed32", FieldDescriptorProto.Type.TYPE_SFIXED32),
+            Map.entry("sfixed64", FieldDescriptorProto.Type.TYPE_SFIXED64),
+            Map.entry("sint32", FieldDescriptorProto.Type.TYPE_SINT32),
+            Map.entry("sint64", FieldDescriptorProto.Type.TYPE_SINT64)
+    );
+
+    private static final int MAX_FIELD_NUMBER = 536_870_911;
+
+    private static final Comparator<Location> LOCATION_ORDER =
+            Comparator.comparingInt(Location::getLine).thenComparingInt(Location::getColumn);
+
+    public static final Map<String, Descriptors.FileDescriptor> WELL_KNOWN_FILES = Map.ofEntries(
+            Map.entry("google/protobuf/any.proto", AnyProto.getDescriptor()),
+            Map.entry("google/protobuf/api.proto", ApiProto.getDescriptor()),
+            Map.entry("google/protobuf/descriptor.proto", DescriptorProtos.getDescriptor()),
+            Map.entry("google/protobuf/duration.proto", DurationProto.getDescriptor()),
+            Map.entry("google/protobuf/empty.proto", EmptyProto.getDescriptor()),
+            Map.entry("google/protobuf/field_mask.proto", FieldMaskProto.getDescriptor()),
+            Map.entry("google/protobuf/source_context.proto", SourceContextProto.getDescriptor()),
+            Map.entry("google/protobuf/struct.proto", StructProto.getDescriptor()),
+            Map.entry("google/protobuf/timestamp.proto", TimestampProto.getDescriptor()),
+            Map.entry("google/protobuf/type.proto", TypeProto.getDescriptor()),
+            Map.entry("google/protobuf/wrappers.proto", WrappersProto.getDescriptor())
+    );
+
+    /**
+     * Parses and links the given sources.
+     *
+     * @return descriptors of the given .proto files, keyed by file name, in dependency order
+     */
+    public Map<String, Descriptors.FileDescriptor> build(Collection<SpecificationSource> sources)
+            throws Descriptors.DescriptorValidationException {
+        Map<String, FileDescriptorProto> protos = new LinkedHashMap<>();
+        for (SpecificationSource source : sources) {
+            if (source.getName().endsWith(".proto")) {
+                ProtoParser parser = new ProtoParser(Location.get(source.getName()), source.getSource().toCharArray());
+                protos.put(source.getName(), buildFileProto(source.getName(), parser.readProtoFile()));
+            }
+        }
+        Map<String, Descriptors.FileDescriptor> result = new LinkedHashMap<>();
+        for (String name : protos.keySet()) {
+            link(name, protos, result, new HashSet<>());
+        }
+        return result;
+    }
+
+    private Descriptors.FileDescriptor link(
+            String name,
+            Map<String, FileDescriptorProto> protos,
+            Map<String, Descriptors.FileDescriptor> linked,
+            Set<String> inProgress
+    ) throws Descriptors.DescriptorValidationException {
+        Descriptors.FileDescriptor descriptor = linked.get(name);
+        if (nonNull(descriptor)) {
+            return descriptor;
+        }
+        descriptor = WELL_KNOWN_FILES.get(name);
+        if (nonNull(descriptor)) {
+            return descriptor;
+        }
+        FileDescriptorProto proto = protos.get(name);
+        if (isNull(proto)) {
+            throw new IllegalArgumentException("Imported file not found: " + name);
+        }
+        if (!inProgress.add(name)) {
+            throw new IllegalArgumentException("Import cycle detected at file: " + name);
+        }
+        List<Descriptors.FileDescriptor> dependencies = new ArrayList<>();
+        for (String dependency : proto.getDependencyList()) {
+            dependencies.add(link(dependency, protos, linked, inProgress));
+        }
+        descriptor = Descriptors.FileDescriptor.buildFrom(
+                proto, dependencies.toArray(Descriptors.FileDescriptor[]::new));
+        linked.put(name, descriptor);
+        return descriptor;
+    }
+
+    private FileDescriptorProto buildFileProto(String name, ProtoFileElement file) {
+        checkSupported(name, file);
+        boolean proto3 = Syntax.PROTO_3.equals(file.getSyntax());
+        FileDescriptorProto.Builder builder = FileDescriptorProto.newBuilder().setName(name);
+        if (nonNull(file.getPackageName())) {
+            builder.setPackage(file.getPackageName());
+        }
+        if (proto3) {
+            builder.setSyntax("proto3");
+        }
+        builder.addAllDependency(file.getImports());
+        builder.addAllDependency(file.getPublicImports());
+        for (int i = 0; i < file.getPublicImports().size(); ++i) {
+            builder.addPublicDependency(file.getImports().size() + i);
+        }
+        builder.setOptions(buildFileOptions(file.getOptions()));
+        for (TypeElement type : file.getTypes()) {
+            if (type instanceof MessageElement message) {
+                builder.addMessageType(buildMessageProto(message, proto3));
+            } else if (type instanceof EnumElement enumElement) {
+                builder.addEnumType(buildEnumProto(enumElement));
+            }
+        }
+        file.getServices().forEach(service -> builder.addService(buildServiceProto(service)));
+        return builder.build();
+    }
+
+    private FileOptions buildFileOptions(List<OptionElement> options) {
+        FileOptions.Builder builder = FileOptions.newBuilder();
+        findOption(options, "java_package").ifPresent(builder::setJavaPackage);
+        findOption(options, "java_outer_classname").ifPresent(builder::setJavaOuterClassname);
+        findOption(options, "java_multiple_files").map(Boolean::parseBoolean).ifPresent(builder::setJavaMultipleFiles);
+        return builder.build();
+    }
+
+    private DescriptorProto buildMessageProto(MessageElement message, boolean proto3) {
+        DescriptorProto.Builder builder = DescriptorProto.newBuilder().setName(message.getName());
+        for (TypeElement type : message.getNestedTypes()) {
+            if (type instanceof MessageElement nestedMessage) {
+                builder.addNestedType(buildMessageProto(nestedMessage, proto3));
+            } else if (type instanceof EnumElement nestedEnum) {
+                builder.addEnumType(buildEnumProto(nestedEnum));
+            }
+        }
+        // Wire keeps one-of members apart from plain fields, declaration order is restored from locations
+        Map<FieldElement, Integer> oneOfIndexes = new HashMap<>();
+        List<FieldElement> fields = new ArrayList<>(message.getFields());
+        for (int i = 0; i < message.getOneOfs().size(); ++i) {
+            OneOfElement oneOf = message.getOneOfs().get(i);
+            builder.addOneofDecl(OneofDescriptorProto.newBuilder().setName(oneOf.getName()));
+            for (FieldElement field : oneOf.getFields()) {
+                oneOfIndexes.put(field, i);
+                fields.add(field);
+            }
+        }
+        fields.sort(Comparator.comparing(FieldElement::getLocation, LOCATION_ORDER));
+        for (FieldElement field : fields) {
+            FieldDescriptorProto.Builder fieldBuilder = buildFieldProto(field, builder);
+            Integer oneOfIndex = oneOfIndexes.get(field);
+            if (nonNull(oneOfIndex)) {
+                fieldBuilder.setOneofIndex(oneOfIndex);
+            } else if (proto3 && Field.Label.OPTIONAL.equals(field.getLabel())) {
+                // Explicit presence in proto3 is modelled by a synthetic one-of
+                fieldBuilder.setProto3Optional(true);
+                long syntheticOneOfCount = builder.getFieldList().stream()
+                        .filter(FieldDescriptorProto::getProto3Optional)
+                        .count();
+                fieldBuilder.setOneofIndex(message.getOneOfs().size() + (int) syntheticOneOfCount);
+            }
+            builder.addField(fieldBuilder);
+        }
+        builder.getFieldList().stream()
+                .filter(FieldDescriptorProto::getProto3Optional)
+                .forEach(field -> builder.addOneofDecl(
+                        OneofDescriptorProto.newBuilder().setName("_" + field.getName())));
+        for (ReservedElement reserved : message.getReserveds()) {
+            for (Object value : reserved.getValues()) {
+                if (value instanceof String name) {
+                    builder.addReservedName(name);
+                } else {
+                    // Descriptor ranges of messages exclude the end
+                    int[] range = toRange(value);
+                    builder.addReservedRange(DescriptorProto.ReservedRange.newBuilder()
+                            .setStart(range[0]).setEnd(range[1] + 1));
+                }
+            }
+        }
+        for (ExtensionsElement extensions : message.getExtensions()) {
+            for (Object value : extensions.getValues()) {
+                int[] range = toRange(value);
+                builder.addExtensionRange(DescriptorProto.ExtensionRange.newBuilder()
+                        .setStart(range[0]).setEnd(range[1] + 1));
+            }
+        }
+        MessageOptions.Builder options = MessageOptions.newBuilder();
+        findOption(message.getOptions(), "deprecated").map(Boolean::parseBoolean)
+                .ifPresent(options::setDeprecated);
+        findOption(message.getOptions(), "no_standard_descriptor_accessor").map(Boolean::parseBoolean)
+                .ifPresent(options::setNoStandardDescriptorAccessor);
+        if (options.hasDeprecated() || options.hasNoStandardDescriptorAccessor()) {
+            builder.setOptions(options);
+        }
+        return builder.build();
+    }
+
+    private FieldDescriptorProto.Builder buildFieldProto(FieldElement field, DescriptorProto.Builder message) {
+        FieldDescriptorProto.Builder builder = FieldDescriptorProto.newBuilder()
+                .setName(field.getName())
+                .setNumber(field.getTag())
+                .setLabel(toLabel(field.getLabel()));
+        Matcher matcher = MAP_TYPE_PATTERN.matcher(field.getType());
+        if (matcher.matches()) {
+            String entryName = toCamelCase(field.getName(), true) + "Entry";
+            message.addNestedType(DescriptorProto.newBuilder()
+                    .setName(entryName)
+                    .addField(setType(FieldDescriptorProto.newBuilder().setName("key").setNumber(1)
+                            .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL), matcher.group(1)))
+                    .addField(setType(FieldDescriptorProto.newBuilder().setName("value").setNumber(2)
+                            .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL), matcher.group(2)))
+                    .setOptions(MessageOptions.newBuilder().setMapEntry(true)));
+            builder.setLabel(FieldDescriptorProto.Label.LABEL_REPEATED).setTypeName(entryName);
+        } else {
+            setType(builder, field.getType());
+        }
+        if (nonNull(field.getDefaultValue())) {
+            builder.setDefaultValue(field.getDefaultValue());
+        }
+        if (nonNull(field.getJsonName())) {
+            builder.setJsonName(field.getJsonName());
+        }
+        FieldOptions.Builder options = FieldOptions.newBuilder();
+        findOption(field.getOptions(), "packed").map(Boolean::parseBoolean).ifPresent(options::setPacked);
+        findOption(field.getOptions(), "deprecated").map(Boolean::parseBoolean).ifPresent(options::setDeprecated);
+        if (options.hasPacked() || options.hasDeprecated()) {
+            builder.setOptions(options);
+        }
+        return builder;
+    }
+
+    private static FieldDescriptorProto.Builder setType(FieldDescriptorProto.Builder builder, String typeName) {
+        FieldDescriptorProto.Type scalarType = SCALAR_TYPES.get(typeName);
+        return isNull(scalarType) ? builder.setTypeName(typeName) : builder.setType(scalarType);
+    }
+
+    private static FieldDescriptorProto.Label toLabel(Field.Label label) {
+        if (isNull(label)) {
+            return FieldDescriptorProto.Label.LABEL_OPTIONAL;
+        }
+        return switch (label) {
+            case REQUIRED -> FieldDescriptorProto.Label.LABEL_REQUIRED;
+            case REPEATED -> FieldDescriptorProto.Label.LABEL_REPEATED;
+            default -> FieldDescriptorProto.Label.LABEL_OPTIONAL;
+        };
+    }
+
+    private EnumDescriptorProto buildEnumProto(EnumElement enumElement) {
+        EnumDescriptorProto.Builder builder = EnumDescriptorProto.newBuilder().setName(enumElement.getName());
+        enumElement.getConstants().forEach(constant -> builder.addValue(
+                EnumValueDescriptorProto.newBuilder().setName(constant.getName()).setNumber(constant.getTag())));
+        findOption(enumElement.getOptions(), "allow_alias").map(Boolean::parseBoolean)
+                .ifPresent(allowAlias -> builder.setOptions(EnumOptions.newBuilder().setAllowAlias(allowAlias)));
+        for (ReservedElement reserved : enumElement.getReserveds()) {
+            for (Object value : reserved.getValues()) {
+                if (value instanceof String name) {
+                    builder.addReservedName(name);
+                } else {
+                    // Enum ranges include the end, Wire resolves 'max' to the field number limit
+                    int[] range = toRange(value);
+                    int end = range[1] == MAX_FIELD_NUMBER ? Integer.MAX_VALUE : range[1];
+                    builder.addReservedRange(EnumDescriptorProto.EnumReservedRange.newBuilder()
+                            .setStart(range[0]).setEnd(end));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param value - tag or inclusive range of tags as parsed by Wire
+     * @return first and last tag
+     */
+    private static int[] toRange(Object value) {
+        if (value instanceof IntRange range) {
+            return new int[] {range.getFirst(), range.getLast()};
+        }
+        int tag = (Integer) value;
+        return new int[] {tag, tag};
+    }
+
+    private ServiceDescriptorProto buildServiceProto(ServiceElement service) {
+        ServiceDescriptorProto.Builder builder = ServiceDescriptorProto.newBuilder().setName(service.getName());
+        service.getRpcs().forEach(rpc -> builder.addMethod(MethodDescriptorProto.newBuilder()
+                .setName(rpc.getName())
+                .setInputType(rpc.getRequestType())
+                .setOutputType(rpc.getResponseType())
+                .setClientStreaming(rpc.getRequestStreaming())
+                .setServerStreaming(rpc.getResponseStreaming())));
+        return builder.build();
+    }
+
+    private static void checkSupported(String fileName, ProtoFileElement file) {
+        List<String> unsupported = new ArrayList<>();
+        if (!file.getExtendDeclarations().isEmpty()) {
+            unsupported.add("extensions");
+        }
+        if (hasCustomOptions(file.getOptions())) {
+            unsupported.add("custom file options");
+        }
+        file.getTypes().forEach(type -> collectUnsupported(type, unsupported));
+        for (ServiceElement service : file.getServices()) {
+            if (hasCustomOptions(service.getOptions())
+                    || service.getRpcs().stream().anyMatch(rpc -> hasCustomOptions(rpc.getOptions()))) {
+                unsupported.add("custom options of service " + service.getName());
+            }
+        }
+        if (!unsupported.isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "File %s uses features not supported by in-memory generation: %s",
+                    fileName, String.join(", ", unsupported)));
+        }
+    }
+
+    private static void collectUnsupported(TypeElement type, List<String> unsupported) {
+        if (type instanceof MessageElement message) {
+            String name = message.getName();
+            if (!message.getExtendDeclarations().isEmpty()) {
+                unsupported.add("extensions in message " + name);
+            }
+            if (!message.getGroups().isEmpty()) {
+                unsupported.add("groups in message " + name);
+            }
+            if (hasCustomOptions(message.getOptions())) {
+                unsupported.add("custom options of message " + name);
+            }
+            boolean customFieldOptions = message.getFields().stream()
+                    .anyMatch(field -> hasCustomOptions(field.getOptions()))
+                    || message.getOneOfs().stream()
+                    .flatMap(oneOf -> oneOf.getFields().stream())
+                    .anyMatch(field -> hasCustomOptions(field.getOptions()));
+            if (customFieldOptions) {
+                unsupported.add("custom field options in message " + name);
+            }
+        } else if (type instanceof EnumElement enumElement) {
+            String name = enumElement.getName();
+            if (hasCustomOptions(enumElement.getOptions())
+                    || enumElement.getConstants().stream().anyMatch(constant -> hasCustomOptions(constant.getOptions()))) {
+                unsupported.add("custom options of enum " + name);
+            }
+        }
+        type.getNestedTypes().forEach(nestedType -> collectUnsupported(nestedType, unsupported));
+    }
+
+    private static boolean hasCustomOptions(List<OptionElement> options) {
+        return options.stream().anyMatch(OptionElement::isParenthesized);
+    }
+
+    private static Optional<String> findOption(List<OptionElement> options, String name) {
+        return options.stream()
+                .filter(option -> !option.isParenthesized() && name.equals(option.getName()))
+                .findFirst()
+                .map(OptionElement::getValue)
+                .map(String::valueOf);
+    }
+
+    static String toCamelCase(String name, boolean capitalizeFirst) {
+        StringBuilder sb = new StringBuilder(name.length());
+        boolean capitalizeNext = capitalizeFirst;
+        for (char c : name.toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(capitalizeNext ? Character.toUpperCase(c) : c);
+                capitalizeNext = Character.isDigit(c);
+            } else {
+                capitalizeNext = true;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.util.paths;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.*;
+
+/**
+ * Index of HTTP routes answering which registered routes intersect a given path and method set.
+ * <p>
+ * Routes are stored in a segment trie per HTTP method. Segments are normalized with {@link PathParser},
+ * so path variables match each other regardless of their names, with the same semantics as
+ * {@link PathIntersectionChecker}. A lookup costs one trie walk per requested method
+ * instead of a comparison against every registered route.
+ *
+ * @param <T> - type of the value identifying a route, e.g. an element id
+ */
+public class RouteIndex<T> {
+    private final PathParser parser;
+    private final Map<HttpMethod, Node<T>> roots = new HashMap<>();
+    private final Map<T, Route> routes = new HashMap<>();
+
+    public RouteIndex(PathParser parser) {
+        this.parser = parser;
+    }
+
+    public RouteIndex() {
+        this(new PathParser());
+    }
+
+    /**
+     * Registers a route. A route previously registered for the same value is replaced.
+     */
+    public synchronized void add(T value, String path, Collection<HttpMethod> methods) {
+        remove(value);
+        Route route = new Route(toSegments(path), Set.copyOf(methods));
+        for (HttpMethod method : route.methods) {
+            Node<T> node = roots.computeIfAbsent(method, key -> new Node<>());
+            for (String segment : route.segments) {
+                node = node.children.computeIfAbsent(segment, key -> new Node<>());
+            }
+            node.values.add(value);
+        }
+        routes.put(value, route);
+    }
+
+    public synchronized boolean remove(T value) {
+        Route route = routes.remove(value);
+        if (route == null) {
+            return false;
+        }
+        for (HttpMethod method : route.methods) {
+            Node<T> root = roots.get(method);
+            if (root != null && removeValue(root, route.segments, 0, value)) {
+                roots.remove(method);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds values of registered routes which intersect the path and share at least one of the methods.
+     */
+    public synchronized Set<T> findIntersecting(String path, Collection<HttpMethod> methods) {
+        List<String> segments = toSegments(path);
+        Set<T> result = new LinkedHashSet<>();
+        for (HttpMethod method : methods) {
+            Node<T> node = find(roots.get(method), segments);
+            if (node != null) {
+                result.addAll(node.values);
+            }
+        }
+        return result;
+    }
+
+    public synchronized boolean intersectsAny(String path, Collection<HttpMethod> methods) {
+        List<String> segments = toSegments(path);
+        for (HttpMethod method : methods) {
+            Node<T> node = find(roots.get(method), segments);
+            if (node != null && !node.values.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized boolean contains(T value) {
+        return routes.containsKey(value);
+    }
+
+    public synchronized int size() {
+        return routes.size();
+    }
+
+    public synchronized void clear() {
+        roots.clear();
+        routes.clear();
+    }
+
+    private List<String> toSegments(String path) {
+        return parser.parse(path).stream().map(PathElement::getPattern).toList();
+    }
+
+    private Node<T> find(Node<T> node, List<String> segments) {
+        for (int i = 0; node != null && i < segments.size(); i++) {
+            node = node.children.get(segments.get(i));
+        }
+        return node;
+    }
+
+    /**
+     * Removes the value from the node at the end of segments and prunes emptied nodes.
+     * @return true if the node has become empty and can be removed by the caller
+     */
+    private boolean removeValue(Node<T> node, List<String> segments, int depth, T value) {
+        if (depth == segments.size()) {
+            node.values.remove(value);
+        } else {
+            String segment = segments.get(depth);
+            Node<T> child = node.children.get(segment);
+            if (child != null && removeValue(child, segments, depth + 1, value)) {
+                node.children.remove(segment);
+            }
+        }
+        return node.isEmpty();
+    }
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new HashMap<>();
+        private final Set<T> values = new LinkedHashSet<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && values.isEmpty();
+        }
+    }
+
+    private static class Route {
+        private final List<String> segments;
+        private final Set<HttpMethod> methods;
+
+        private Route(List<String> segments, Set<HttpMethod> methods) {
+            this.segments = segments;
+            this.methods = methods;
+        }
+    }
+}
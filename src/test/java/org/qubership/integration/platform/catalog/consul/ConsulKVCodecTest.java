@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsulKVCodecTest {
+    private final ObjectMapper indentingMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    void testEncodesCompactJson() throws Exception {
+        ConsulKVCodec codec = new ConsulKVCodec(indentingMapper, new SimpleMeterRegistry(), false, 16);
+
+        String encoded = codec.encode(Map.of("key", "value".repeat(100)));
+
+        assertFalse(encoded.contains("\n"));
+        assertEquals("value".repeat(100), codec.decode(encoded, Map.class).get("key"));
+    }
+
+    @Test
+    void testCompressesLargeValues() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConsulKVCodec codec = new ConsulKVCodec(indentingMapper, registry, true, 16);
+        Map<String, String> value = Map.of("key", "value".repeat(100));
+
+        String encoded = codec.encode(value);
+
+        assertTrue(encoded.startsWith(ConsulKVCodec.GZIP_FORMAT_MARKER));
+        assertTrue(encoded.length() < indentingMapper.writeValueAsString(value).length());
+        assertEquals(value, codec.decode(encoded, Map.class));
+        assertEquals(1, registry.get("qip.consul.kv.value.encoded.size").tag("format", "gzip").summary().count());
+
+        // Small values and values written before stay plain JSON
+        assertEquals("1", codec.encode(1));
+        assertEquals(Map.of("a", 1), codec.decode("{\"a\": 1}", Map.class));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVChange;
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVChangeType;
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVDelta;
+import org.qubership.integration.platform.catalog.model.consul.KeyResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsulKVDeltaDecoderTest {
+
+    @Test
+    void testParsesOnlyChangedValues() {
+        AtomicInteger parseCount = new AtomicInteger();
+        ConsulKVDeltaDecoder<String> decoder = new ConsulKVDeltaDecoder<>(
+                key -> key.startsWith("chains/") ? key.substring("chains/".length()) : null,
+                value -> {
+                    parseCount.incrementAndGet();
+                    return value.toUpperCase();
+                });
+
+        ConsulKVDelta<String> delta = decoder.decode(List.of(kv("chains/a", "a", 1), kv("chains/b", "b", 2), kv("other", "x", 3)));
+        assertTrue(delta.isInitial());
+        assertEquals(Map.of("a", "A", "b", "B"), delta.getView());
+        assertEquals(2, delta.getChanges().size());
+        assertEquals(2, parseCount.get());
+
+        // Same value with a new ModifyIndex is not parsed again
+        delta = decoder.decode(List.of(kv("chains/a", "a", 4), kv("chains/b", "b2", 5), kv("chains/c", "c", 6)));
+        assertFalse(delta.isInitial());
+        assertEquals(4, parseCount.get());
+        assertEquals(Map.of("a", "A", "b", "B2", "c", "C"), delta.getView());
+        ConsulKVChange<String> updated = delta.getChanges().get(0);
+        assertEquals(ConsulKVChangeType.UPDATED, updated.getType());
+        assertEquals("B", updated.getPreviousValue());
+        assertEquals(ConsulKVChangeType.ADDED, delta.getChanges().get(1).getType());
+
+        delta = decoder.decode(List.of(kv("chains/a", "a", 4), kv("chains/c", "c", 6)));
+        assertEquals(4, parseCount.get());
+        assertEquals(1, delta.getChanges().size());
+        assertEquals(ConsulKVChangeType.REMOVED, delta.getChanges().get(0).getType());
+        assertEquals("b", delta.getChanges().get(0).getId());
+        assertEquals(Map.of("a", "A", "c", "C"), delta.getView());
+
+        assertFalse(decoder.decode(List.of(kv("chains/a", "a", 4), kv("chains/c", "c", 6))).hasChanges());
+    }
+
+    @Test
+    void testKeepsPreviousValueOnParseFailure() {
+        ConsulKVDeltaDecoder<Integer> decoder = new ConsulKVDeltaDecoder<>(key -> key, Integer::valueOf);
+        decoder.decode(List.of(kv("a", "1", 1)));
+
+        ConsulKVDelta<Integer> delta = decoder.decode(List.of(kv("a", "broken", 2)));
+        assertEquals(List.of("a"), List.copyOf(delta.getFailedIds()));
+        assertEquals(Map.of("a", 1), delta.getView());
+
+        // The failed value is parsed again on the next response
+        delta = decoder.decode(List.of(kv("a", "3", 2)));
+        assertTrue(delta.getFailedIds().isEmpty());
+        assertEquals(Map.of("a", 3), delta.getView());
+    }
+
+    private static KeyResponse kv(String key, String value, long modifyIndex) {
+        return KeyResponse.builder()
+                .key(key)
+                .value(Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8)))
+                .modifyIndex(modifyIndex)
+                .build();
+    }
+}
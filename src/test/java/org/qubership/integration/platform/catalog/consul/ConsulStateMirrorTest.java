@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.consul.ConsulKVDelta;
+import org.qubership.integration.platform.catalog.model.consul.ConsulStateSnapshot;
+import org.qubership.integration.platform.catalog.model.consul.KeyResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsulStateMirrorTest {
+    private final ConsulKVDeltaDecoder<Integer> decoder = new ConsulKVDeltaDecoder<>(key -> key, Integer::valueOf);
+    private final AtomicReference<Consumer<ConsulKVDelta<Integer>>> listener = new AtomicReference<>();
+    private final ConsulWatch watch = new ConsulWatch("/test", true, (index, values) -> {});
+
+    @Test
+    void testServesFreshSnapshots() {
+        ConsulStateMirror<Integer> mirror = startMirror(60_000);
+        assertNull(mirror.getSnapshot());
+
+        publish("a", "1", 1);
+        ConsulStateSnapshot<Integer> snapshot = mirror.getSnapshot();
+        assertEquals(Map.of("a", 1), snapshot.getValues());
+        assertEquals(1, snapshot.getVersion());
+
+        publish("a", "2", 2);
+        snapshot = mirror.getSnapshot();
+        assertEquals(Map.of("a", 2), snapshot.getValues());
+        assertEquals(2, snapshot.getVersion());
+
+        // Failed values make the mirror unusable until they are fixed
+        publish("a", "broken", 3);
+        assertNull(mirror.getSnapshot());
+        publish("a", "3", 4);
+        assertEquals(Map.of("a", 3), mirror.getSnapshot().getValues());
+
+        mirror.stop();
+        assertTrue(watch.isCancelled());
+        assertNull(mirror.getSnapshot());
+    }
+
+    @Test
+    void testSkipsStaleSnapshots() throws InterruptedException {
+        ConsulStateMirror<Integer> mirror = startMirror(10);
+        publish("a", "1", 1);
+        Thread.sleep(50);
+        assertNull(mirror.getSnapshot());
+    }
+
+    private ConsulStateMirror<Integer> startMirror(long maxStalenessMs) {
+        ConsulStateMirror<Integer> mirror = new ConsulStateMirror<>(maxStalenessMs);
+        mirror.start(consumer -> {
+            listener.set(consumer);
+            return watch;
+        });
+        return mirror;
+    }
+
+    private void publish(String key, String value, long modifyIndex) {
+        listener.get().accept(decoder.decode(List.of(KeyResponse.builder()
+                .key(key)
+                .value(Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8)))
+                .modifyIndex(modifyIndex)
+                .build())));
+        watch.markResponse();
+    }
+}
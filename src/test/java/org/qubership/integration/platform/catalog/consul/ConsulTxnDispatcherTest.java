@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.consul.exception.ConsulException;
+import org.qubership.integration.platform.catalog.consul.exception.TxnConflictException;
+import org.qubership.integration.platform.catalog.model.consul.KVResponse;
+import org.qubership.integration.platform.catalog.model.consul.txn.request.TxnKVRequest;
+import org.qubership.integration.platform.catalog.model.consul.txn.request.TxnRequest;
+import org.qubership.integration.platform.catalog.model.consul.txn.request.TxnVerb;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnBatchResponse;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnResponse;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnResponseError;
+import org.qubership.integration.platform.catalog.model.consul.txn.response.TxnResponseResult;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsulTxnDispatcherTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSendsPartitionsInParallelAndKeepsOrder() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ConsulTxnDispatcher dispatcher = new ConsulTxnDispatcher(partition -> {
+            threads.add(Thread.currentThread().getName());
+            sleep(100);
+            return success(partition);
+        }, executor, 0, 1);
+
+        TxnBatchResponse response = dispatcher.dispatch(operations(4 * ConsulClient.MAX_TXN_SIZE));
+
+        assertTrue(response.isSuccessful());
+        assertEquals(4, threads.size());
+        assertEquals(4 * ConsulClient.MAX_TXN_SIZE, response.getResults().size());
+        for (int i = 0; i < response.getResults().size(); i++) {
+            assertEquals("key-" + i, response.getResults().get(i).getKv().getKey());
+        }
+    }
+
+    @Test
+    void testRetriesServerErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+        ConsulTxnDispatcher dispatcher = new ConsulTxnDispatcher(partition -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConsulException("Consul txn request failed",
+                        new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+            }
+            return success(partition);
+        }, executor, 3, 1);
+
+        assertTrue(dispatcher.dispatch(operations(10)).isSuccessful());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testAggregatesErrorsWithGlobalOperationIndexes() {
+        AtomicInteger attempts = new AtomicInteger();
+        ConsulTxnDispatcher dispatcher = new ConsulTxnDispatcher(partition -> {
+            attempts.incrementAndGet();
+            if (partition.get(0).getKv().getKey().equals("key-" + ConsulClient.MAX_TXN_SIZE)) {
+                TxnResponse conflict = new TxnResponse(new ArrayList<>(), List.of(new TxnResponseError(2, "index mismatch")));
+                throw new TxnConflictException("conflict", null, conflict);
+            }
+            return success(partition);
+        }, executor, 3, 1);
+
+        TxnBatchResponse response = dispatcher.dispatch(operations(2 * ConsulClient.MAX_TXN_SIZE));
+
+        assertFalse(response.isSuccessful());
+        assertEquals(2, attempts.get());
+        assertEquals(1, response.getErrors().size());
+        assertEquals(ConsulClient.MAX_TXN_SIZE + 2, response.getErrors().get(0).getOpIndex());
+        assertInstanceOf(TxnConflictException.class, response.getFailures().get(0));
+        assertEquals(ConsulClient.MAX_TXN_SIZE, response.getResults().size());
+    }
+
+    private static List<TxnRequest> operations(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TxnRequest(new TxnKVRequest(TxnVerb.CAS, "key-" + i, "value", 0L)))
+                .toList();
+    }
+
+    private static TxnResponse success(List<TxnRequest> partition) {
+        List<TxnResponseResult> results = partition.stream()
+                .map(request -> new TxnResponseResult(KVResponse.builder().key(request.getKv().getKey()).build()))
+                .toList();
+        return new TxnResponse(new ArrayList<>(results), null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
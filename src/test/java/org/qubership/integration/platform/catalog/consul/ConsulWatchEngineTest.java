@@ -0,0 +1,226 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.consul;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.consul.KeyResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsulWatchEngineTest {
+    private static final String KEY = "/config/test/deployments-update";
+
+    private FakeConsul consul;
+    private ConsulWatchEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        consul = new FakeConsul();
+        engine = new ConsulWatchEngine(new ObjectMapper(), consul.getUrl(), "token", 1, 10, 50, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.destroy();
+        consul.stop();
+    }
+
+    @Test
+    void testNotifiesOnChange() throws InterruptedException {
+        consul.put(KEY, "1");
+        BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+        ConsulWatch watch = engine.watch(KEY, false, (index, values) -> changes.add(decode(values)));
+
+        assertEquals("1", changes.poll(5, TimeUnit.SECONDS));
+        consul.put(KEY, "2");
+        assertEquals("2", changes.poll(5, TimeUnit.SECONDS));
+        assertEquals(consul.getIndex(), watch.getIndex());
+
+        watch.cancel();
+        assertTrue(watch.isCancelled());
+    }
+
+    @Test
+    void testResetsIndexWhenItGoesBackwards() throws InterruptedException {
+        consul.put(KEY, "1");
+        BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+        ConsulWatch watch = engine.watch(KEY, false, (index, values) -> changes.add(decode(values)));
+        assertEquals("1", changes.poll(5, TimeUnit.SECONDS));
+
+        consul.restore(KEY, "restored", 0);
+        assertEquals("restored", changes.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, watch.getIndex());
+    }
+
+    @Test
+    void testRetriesFailedRequests() throws InterruptedException {
+        consul.failNext(2);
+        consul.put(KEY, "1");
+        BlockingQueue<String> changes = new LinkedBlockingQueue<>();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        engine.watch(KEY, false, new ConsulWatchListener() {
+            @Override
+            public void onChange(long index, List<KeyResponse> values) {
+                changes.add(decode(values));
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                errors.add(error);
+            }
+        });
+
+        assertEquals("1", changes.poll(5, TimeUnit.SECONDS));
+        assertEquals(2, errors.size());
+    }
+
+    @Test
+    void testFailedListenerDoesNotConfirmResponse() throws InterruptedException {
+        consul.put(KEY, "1");
+        BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        ConsulWatch watch = engine.watch(KEY, false, new ConsulWatchListener() {
+            @Override
+            public void onChange(long index, List<KeyResponse> values) {
+                throw new IllegalStateException("listener failed");
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                errors.add(error);
+            }
+        });
+
+        assertNotNull(errors.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, watch.getLastResponseTime());
+    }
+
+    @Test
+    void testBackoffIsBounded() {
+        for (int attempt = 1; attempt < 100; attempt++) {
+            long delay = engine.backoff(attempt);
+            assertTrue(delay >= 5 && delay <= 50, "delay " + delay);
+        }
+    }
+
+    private static String decode(List<KeyResponse> values) {
+        return values.isEmpty() ? null : values.get(0).getDecodedValue();
+    }
+
+    private static class FakeConsul {
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final Map<String, String> values = new HashMap<>();
+        private long index = 10;
+        private int failures;
+
+        FakeConsul() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext(ConsulClient.CONSUL_KV_PATH, this::handle);
+            server.setExecutor(executor);
+            server.start();
+        }
+
+        String getUrl() {
+            return "http://localhost:" + server.getAddress().getPort();
+        }
+
+        synchronized long getIndex() {
+            return index;
+        }
+
+        synchronized void put(String key, String value) {
+            values.put(key, value);
+            index++;
+            notifyAll();
+        }
+
+        synchronized void restore(String key, String value, long restoredIndex) {
+            values.put(key, value);
+            index = restoredIndex;
+            notifyAll();
+        }
+
+        synchronized void failNext(int count) {
+            failures = count;
+        }
+
+        void stop() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String key = exchange.getRequestURI().getPath().substring(ConsulClient.CONSUL_KV_PATH.length());
+            long requestIndex = Long.parseLong(queryParam(exchange, "index"));
+            int status;
+            String body;
+            long responseIndex;
+            synchronized (this) {
+                if (failures > 0) {
+                    failures--;
+                    reply(exchange, 500, "", index);
+                    return;
+                }
+                long deadline = System.currentTimeMillis() + 1000;
+                while (requestIndex > 0 && index == requestIndex && System.currentTimeMillis() < deadline) {
+                    try {
+                        wait(Math.max(1, deadline - System.currentTimeMillis()));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                String value = values.get(key);
+                status = value == null ? 404 : 200;
+                body = value == null ? "" : "[{\"Key\":\"" + key.substring(1) + "\",\"Value\":\""
+                        + Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8)) + "\"}]";
+                // Consul never returns 0
+                responseIndex = Math.max(index, 1);
+            }
+            reply(exchange, status, body, responseIndex);
+        }
+
+        private static String queryParam(HttpExchange exchange, String name) {
+            return Arrays.stream(exchange.getRequestURI().getQuery().split("&"))
+                    .filter(param -> param.startsWith(name + "="))
+                    .map(param -> param.substring(name.length() + 1))
+                    .findFirst()
+                    .orElse("0");
+        }
+
+        private static void reply(HttpExchange exchange, int status, String body, long index) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add(ConsulClient.CONSUL_INDEX_HEADER, String.valueOf(index));
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.actionlog;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+class ActionLogFilterRepositoryImplTest {
+    private final CriteriaBuilder builder = mock(CriteriaBuilder.class);
+    @SuppressWarnings("unchecked")
+    private final Path<Timestamp> actionTime = mock(Path.class);
+    @SuppressWarnings("unchecked")
+    private final Path<String> id = mock(Path.class);
+    private final Timestamp afterTime = new Timestamp(1000);
+
+    @Test
+    void testKeysetPredicateComparesTimeThenId() {
+        Predicate timeBefore = mock(Predicate.class);
+        Predicate timeEqual = mock(Predicate.class);
+        Predicate idBefore = mock(Predicate.class);
+        Predicate sameTimeIdBefore = mock(Predicate.class);
+        Predicate keyset = mock(Predicate.class);
+        when(builder.lessThan(actionTime, afterTime)).thenReturn(timeBefore);
+        when(builder.equal(actionTime, afterTime)).thenReturn(timeEqual);
+        when(builder.lessThan(id, "id-5")).thenReturn(idBefore);
+        when(builder.and(timeEqual, idBefore)).thenReturn(sameTimeIdBefore);
+        when(builder.or(timeBefore, sameTimeIdBefore)).thenReturn(keyset);
+
+        assertSame(keyset, ActionLogFilterRepositoryImpl.buildKeysetPredicate(builder, actionTime, id, afterTime, "id-5"));
+    }
+
+    @Test
+    void testKeysetPredicateWithoutIdComparesTimeOnly() {
+        Predicate timeBefore = mock(Predicate.class);
+        when(builder.lessThan(actionTime, afterTime)).thenReturn(timeBefore);
+
+        assertSame(timeBefore, ActionLogFilterRepositoryImpl.buildKeysetPredicate(builder, actionTime, id, afterTime, null));
+        verify(builder, never()).or(any(Predicate.class), any(Predicate.class));
+        verify(builder, never()).equal(any(), any(Object.class));
+    }
+}
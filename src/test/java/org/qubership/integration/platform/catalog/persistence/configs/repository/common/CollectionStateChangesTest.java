@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.persistence.configs.repository.common;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Dependency;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionStateChangesTest {
+
+    @Test
+    void testEntitiesAreMatchedByIdentityKey() {
+        ChainElement kept = element("kept");
+        ChainElement removed = element("removed");
+        ChainElement keptNewState = element("kept");
+        ChainElement added = element("added");
+
+        CollectionStateChanges<ChainElement> changes = CollectionStateChanges.of(
+                List.of(kept, removed), List.of(keptNewState, added));
+
+        assertEquals(List.of(kept), changes.getToDetach());
+        assertEquals(List.of(removed), changes.getToRemove());
+        assertEquals(List.of(keptNewState), changes.getToMerge());
+        assertEquals(List.of(added), changes.getToPersist());
+    }
+
+    @Test
+    void testDependenciesAreMatchedByElements() {
+        ChainElement from = element("from");
+        ChainElement to = element("to");
+        Dependency dependency = Dependency.of(from, to);
+        Dependency sameId = Dependency.of(from, element("other"));
+        sameId.setId(dependency.getId());
+
+        CollectionStateChanges<Dependency> changes = CollectionStateChanges.of(List.of(dependency), List.of(sameId));
+
+        assertEquals(List.of(dependency), changes.getToRemove());
+        assertEquals(List.of(sameId), changes.getToPersist());
+        assertTrue(changes.getToMerge().isEmpty());
+    }
+
+    @Test
+    void testComparableEntitiesWithoutIdentityKey() {
+        CollectionStateChanges<String> changes = CollectionStateChanges.of(List.of("a", "b"), List.of("b", "c"));
+
+        assertEquals(List.of("b"), changes.getToDetach());
+        assertEquals(List.of("a"), changes.getToRemove());
+        assertEquals(List.of("b"), changes.getToMerge());
+        assertEquals(List.of("c"), changes.getToPersist());
+    }
+
+    private static ChainElement element(String id) {
+        return ChainElement.builder().id(id).build();
+    }
+}
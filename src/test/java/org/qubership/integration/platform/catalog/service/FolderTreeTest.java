@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FolderTreeTest {
+
+    @Test
+    void testAncestorsAndDescendants() {
+        Map<String, String> parents = new HashMap<>();
+        parents.put("root", null);
+        parents.put("a", "root");
+        parents.put("b", "a");
+        parents.put("c", "a");
+        parents.put("other", null);
+        FolderTree tree = new FolderTree(parents, 0, 0);
+
+        assertEquals(List.of("b", "a", "root"), List.copyOf(tree.getAncestorIds(List.of("b"))));
+        assertEquals(Set.of("b", "c", "a", "root"), tree.getAncestorIds(List.of("b", "c", "missing")));
+        assertEquals(Set.of("a", "b", "c"), tree.getDescendantIds("root"));
+        assertTrue(tree.getDescendantIds("other").isEmpty());
+        assertTrue(tree.containsAll(List.of("b", "other")));
+        assertFalse(tree.containsAll(List.of("b", "missing")));
+    }
+}
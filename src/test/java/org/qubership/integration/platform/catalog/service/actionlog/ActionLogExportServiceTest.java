@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.actionlog;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.User;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.EntityType;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.LogOperation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionLogExportServiceTest {
+    private final ActionLogExportService exportService = new ActionLogExportService(null, 10);
+
+    @Test
+    void testCsvValuesAreEscaped() throws IOException {
+        ActionLog actionLog = createActionLog(0);
+        actionLog.setEntityName("chain, \"quoted\"");
+        actionLog.setActionTime(Timestamp.from(Instant.parse("2024-01-02T03:04:05Z")));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertEquals(1, exportService.writeCsv(Stream.of(actionLog), outputStream));
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("Action time,Operation,Entity type,"));
+        assertEquals("2024-01-02T03:04:05Z,CREATE,CHAIN,id-0,\"chain, \"\"quoted\"\"\",,,,,user-id,user", lines[1]);
+    }
+
+    @Test
+    void testFormulasAreNeutralized() throws IOException {
+        ActionLog actionLog = createActionLog(0);
+        actionLog.setEntityName("=HYPERLINK(\"http://example.com\")");
+        actionLog.setParentName("@SUM(A1)");
+        actionLog.setActionTime(Timestamp.from(Instant.parse("2024-01-02T03:04:05Z")));
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        exportService.writeCsv(Stream.of(actionLog), csv);
+        String row = csv.toString(StandardCharsets.UTF_8).split("\r\n")[1];
+        assertTrue(row.contains(",\"'=HYPERLINK(\"\"http://example.com\"\")\","));
+        assertTrue(row.contains(",'@SUM(A1),"));
+
+        ByteArrayOutputStream xlsx = new ByteArrayOutputStream();
+        exportService.writeXlsx(Stream.of(actionLog), xlsx);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(xlsx.toByteArray()))) {
+            Row xlsxRow = workbook.getSheetAt(0).getRow(1);
+            assertEquals("'=HYPERLINK(\"http://example.com\")", xlsxRow.getCell(4).getStringCellValue());
+            assertEquals("'@SUM(A1)", xlsxRow.getCell(7).getStringCellValue());
+            assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), xlsxRow.getCell(0).getLocalDateTimeCellValue());
+        }
+    }
+
+    @Test
+    void testXlsxRowsAreWrittenThroughWindow() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long count = exportService.writeXlsx(IntStream.range(0, 250).mapToObj(ActionLogExportServiceTest::createActionLog), outputStream);
+        assertEquals(250, count);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(250, sheet.getLastRowNum());
+            assertEquals("Entity id", sheet.getRow(0).getCell(3).getStringCellValue());
+            assertEquals("id-249", sheet.getRow(250).getCell(3).getStringCellValue());
+        }
+    }
+
+    private static ActionLog createActionLog(int index) {
+        ActionLog actionLog = new ActionLog(EntityType.CHAIN, "id-" + index, "chain-" + index,
+                null, null, null, LogOperation.CREATE);
+        actionLog.setUser(new User("user-id", "user"));
+        return actionLog;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.actionlog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.actionlog.ActionLog;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionLogWriterTest {
+
+    @Test
+    void testBatchesAreCappedAndDrainedOnShutdown() {
+        List<List<ActionLog>> batches = new CopyOnWriteArrayList<>();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ActionLogWriter writer = createWriter(batches::add, meterRegistry, 100, ActionLogOverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 25; i++) {
+            assertTrue(writer.submit(new ActionLog()));
+        }
+        writer.start();
+        writer.destroy();
+
+        assertEquals(25, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+        assertEquals(25.0, meterRegistry.get("qip.action.log.written").counter().count());
+        assertFalse(writer.submit(new ActionLog()));
+    }
+
+    @Test
+    void testDropOldestKeepsNewestActions() throws InterruptedException {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<ActionLog> written = new CopyOnWriteArrayList<>();
+        ActionLogWriter writer = createWriter(batch -> {
+            writeStarted.countDown();
+            awaitQuietly(release);
+            written.addAll(batch);
+        }, new SimpleMeterRegistry(), 5, ActionLogOverflowPolicy.DROP_OLDEST);
+        writer.start();
+
+        ActionLog first = new ActionLog();
+        writer.submit(first);
+        assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(writer.submit(new ActionLog()));
+        }
+        assertEquals(5, writer.getQueueSize());
+        assertEquals(3, writer.getDroppedCount());
+
+        release.countDown();
+        writer.destroy();
+        assertEquals(6, written.size());
+        assertSame(first, written.get(0));
+    }
+
+    @Test
+    void testFailedBatchIsRetried() {
+        List<ActionLog> written = new CopyOnWriteArrayList<>();
+        int[] failures = {2};
+        ActionLogWriter writer = createWriter(batch -> {
+            if (failures[0]-- > 0) {
+                throw new IllegalStateException("Database is unavailable");
+            }
+            written.addAll(batch);
+        }, new SimpleMeterRegistry(), 10, ActionLogOverflowPolicy.BLOCK);
+
+        writer.submit(new ActionLog());
+        writer.start();
+        writer.destroy();
+
+        assertEquals(1, written.size());
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    private static ActionLogWriter createWriter(
+            Consumer<List<ActionLog>> batchWriter,
+            SimpleMeterRegistry meterRegistry,
+            int queueCapacity,
+            ActionLogOverflowPolicy overflowPolicy
+    ) {
+        return new ActionLogWriter(batchWriter, meterRegistry, queueCapacity, 10, 10,
+                overflowPolicy, 10, 0.8, 10, 3, 1, 5000);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
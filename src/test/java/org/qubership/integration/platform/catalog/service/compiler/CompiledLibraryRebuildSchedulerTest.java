@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.compiler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.model.compiledlibrary.CompiledLibraryRebuildProgress;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompiledLibraryRebuildSchedulerTest {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private CompiledLibraryRebuildScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        scheduler = new CompiledLibraryRebuildScheduler(transactionManager, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.destroy();
+    }
+
+    @Test
+    void testRebuildsBeyondQueueCapacityAreRejected() throws InterruptedException {
+        CompiledLibraryRebuildProgress progress =
+                scheduler.schedule("system", List.of("running", "queued", "rejected"), this::rebuild);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("rejected"), progress.getFailedModelIds());
+        assertInstanceOf(RejectedExecutionException.class, progress.getFailures().get("rejected"));
+        assertFalse(progress.isDone());
+    }
+
+    @Test
+    void testPendingRebuildsAreCompletedOnShutdown() throws InterruptedException {
+        CompiledLibraryRebuildProgress progress = scheduler.schedule("system", List.of("running", "queued"), this::rebuild);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        scheduler.destroy();
+
+        assertThrows(CancellationException.class, () -> progress.getCompletion().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CancellationException.class, progress.getFailures().get("queued"));
+        assertTrue(scheduler.getProgress("system").isEmpty());
+    }
+
+    private void rebuild(String modelId) {
+        started.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
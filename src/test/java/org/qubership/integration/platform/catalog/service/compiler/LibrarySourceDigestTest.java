@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.compiler;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.jar.Manifest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LibrarySourceDigestTest {
+
+    @Test
+    void testDescribesClasspathByEntryNames() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {
+                new URL("jar:file:/app/app.jar!/BOOT-INF/lib/lib-b-2.0.jar!/"),
+                new URL("file:/opt/libs/lib-a-1.0.jar")
+        }, null)) {
+            String classpath = LibrarySourceDigest.describeClasspath(loader);
+            assertTrue(classpath.contains("lib-a-1.0.jar"));
+            assertTrue(classpath.contains("lib-b-2.0.jar"));
+            assertFalse(classpath.contains("/opt/libs"));
+        }
+    }
+
+    @Test
+    void testDigestDependsOnSources() {
+        Map<String, String> sources = Map.of("a.B", "class B {}");
+        assertEquals(LibrarySourceDigest.compute(sources, new Manifest()), LibrarySourceDigest.compute(sources, new Manifest()));
+        assertNotEquals(LibrarySourceDigest.compute(sources, new Manifest()),
+                LibrarySourceDigest.compute(Map.of("a.B", "class B { }"), new Manifest()));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.compiler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.tools.JavaFileObject;
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class PackageInternalsFinderTest {
+    private ClassLoader classLoader;
+    private PackageInternalsFinder finder;
+
+    @BeforeEach
+    void setUp() {
+        classLoader = getClass().getClassLoader();
+        finder = new PackageInternalsFinder(classLoader);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "org.qubership.integration.platform.catalog.service.compiler",
+            "com.google.common.collect",
+            "com.fasterxml.jackson.databind",
+            "org.junit.jupiter.api",
+            "org.apache.commons.lang3"
+    })
+    void testIndexedLookupMatchesClasspathScan(String packageName) throws IOException {
+        Set<String> expected = scan(packageName);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, describe(finder.find(packageName)));
+        // Second lookup is served from the index
+        assertEquals(expected, describe(finder.find(packageName)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"org.qubership.nonexistent", "com.google"})
+    void testLookupOfPackageWithoutClasses(String packageName) throws IOException {
+        assertEquals(scan(packageName), describe(finder.find(packageName)));
+    }
+
+    private static Set<String> describe(Collection<JavaFileObject> files) {
+        return files.stream()
+                .map(file -> ((CustomJavaFileObject) file).binaryName() + " " + file.toUri())
+                .collect(Collectors.toSet());
+    }
+
+    // Walks the classpath the same way the finder did before the index was introduced
+    private Set<String> scan(String packageName) throws IOException {
+        Set<String> result = new HashSet<>();
+        Enumeration<URL> urls = classLoader.getResources(packageName.replaceAll("\\.", "/"));
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            File directory = new File(url.getFile());
+            if (directory.isDirectory()) {
+                for (File file : Objects.requireNonNull(directory.listFiles())) {
+                    if (file.isFile() && file.getName().endsWith(".class")) {
+                        String binaryName = (packageName + "." + file.getName()).replaceAll("\\.class$", "");
+                        result.add(binaryName + " " + file.toURI());
+                    }
+                }
+            } else {
+                String urlString = url.toExternalForm();
+                String jarUri = urlString.substring(0, urlString.lastIndexOf("!"));
+                JarURLConnection connection = (JarURLConnection) url.openConnection();
+                String rootEntryName = connection.getEntryName();
+                int rootEnd = rootEntryName.length() + 1;
+                Enumeration<JarEntry> entries = connection.getJarFile().entries();
+                while (entries.hasMoreElements()) {
+                    String name = entries.nextElement().getName();
+                    if (name.startsWith(rootEntryName)
+                            && name.indexOf('/', rootEnd) == -1
+                            && name.endsWith(".class")) {
+                        String binaryName = name.replaceAll("/", ".").replaceAll("\\.class$", "");
+                        result.add(binaryName + " " + jarUri + "!/" + name);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.difference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Chain;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.Snapshot;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.chain.element.ChainElement;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ChainDifferenceServiceTest {
+
+    private final ChainDifferenceService chainDifferenceService =
+            new ChainDifferenceService(null, null, new ChainElementDifferenceService());
+
+    @Test
+    @DisplayName("Elements of the same chain are matched by id")
+    public void shouldMatchElementsOfSameChainById() {
+        ChainElement leftFirst = element("first", "script", "First", Map.of("script", "a"));
+        ChainElement leftSecond = element("second", "script", "Second", Map.of());
+        ChainElement rightSecond = element("second", "script", "Second renamed", Map.of());
+        ChainElement rightThird = element("third", "script", "Third", Map.of());
+
+        EntityDifferenceResult result = chainDifferenceService.findChainsDifferences(
+                chain("chain", leftFirst, leftSecond),
+                chain("chain", rightSecond, rightThird)
+        );
+
+        assertOperands(result, new ChainElement[][] {
+                {leftFirst, null},
+                {leftSecond, rightSecond},
+                {null, rightThird}
+        });
+    }
+
+    @Test
+    @DisplayName("Elements of different chains are matched by content, each right element at most once")
+    public void shouldMatchElementsOfDifferentChainsByContent() {
+        ChainElement leftFirstCopy = element("left-1", "script", "Script", Map.of("script", "a"));
+        ChainElement leftSecondCopy = element("left-2", "script", "Script", Map.of("script", "a"));
+        ChainElement leftChanged = element("left-3", "script", "Changed", Map.of("script", "b"));
+        ChainElement rightCopy = element("right-1", "script", "Script", Map.of("script", "a"));
+        ChainElement rightChanged = element("right-2", "script", "Changed", Map.of("script", "c"));
+
+        EntityDifferenceResult result = chainDifferenceService.findChainsDifferences(
+                chain("left-chain", leftFirstCopy, leftSecondCopy, leftChanged),
+                chain("right-chain", rightCopy, rightChanged)
+        );
+
+        assertOperands(result, new ChainElement[][] {
+                {leftFirstCopy, rightCopy},
+                {leftSecondCopy, null},
+                {leftChanged, null},
+                {null, rightChanged}
+        });
+    }
+
+    @Test
+    @DisplayName("Snapshot elements are matched by original id")
+    public void shouldMatchSnapshotElementsByOriginalId() {
+        Chain chain = chain("chain");
+        ChainElement chainElement = element("element", "script", "Script", Map.of());
+        chain.addElement(chainElement);
+        ChainElement snapshotElement = element("snapshot-element", "script", "Script", Map.of());
+        snapshotElement.setOriginalId("element");
+        ChainElement removedSnapshotElement = element("removed-snapshot-element", "script", "Removed", Map.of());
+        removedSnapshotElement.setOriginalId("removed");
+        Snapshot snapshot = Snapshot.builder()
+                .chain(chain)
+                .elements(new ArrayList<>(List.of(removedSnapshotElement, snapshotElement)))
+                .build();
+
+        EntityDifferenceResult result = chainDifferenceService.findChainsDifferences(snapshot, chain);
+
+        assertOperands(result, new ChainElement[][] {
+                {removedSnapshotElement, null},
+                {snapshotElement, chainElement}
+        });
+    }
+
+    private static void assertOperands(EntityDifferenceResult result, ChainElement[][] expectedOperands) {
+        List<DifferenceResult<ChainElement>> differences = result.getElementsDifferences();
+        assertEquals(expectedOperands.length, differences.size());
+        for (int i = 0; i < expectedOperands.length; i++) {
+            assertSame(expectedOperands[i][0], differences.get(i).getLeftOperand());
+            assertSame(expectedOperands[i][1], differences.get(i).getRightOperand());
+        }
+    }
+
+    private static Chain chain(String id, ChainElement... elements) {
+        Chain chain = new Chain(id);
+        Arrays.stream(elements).forEach(chain::addElement);
+        return chain;
+    }
+
+    private static ChainElement element(String id, String type, String name, Map<String, Object> properties) {
+        return ChainElement.builder()
+                .id(id)
+                .type(type)
+                .name(name)
+                .properties(new LinkedHashMap<>(properties))
+                .build();
+    }
+}
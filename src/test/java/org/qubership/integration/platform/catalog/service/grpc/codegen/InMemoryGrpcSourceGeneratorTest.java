@@ -0,0 +1,234 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.service.grpc.codegen;
+
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.catalog.persistence.configs.entity.system.SpecificationSource;
+import org.qubership.integration.platform.catalog.service.compiler.InMemoryCompiler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryGrpcSourceGeneratorTest {
+    private static final String COMMON_PROTO = """
+            syntax = "proto3";
+            package test.common;
+            option java_package = "org.example.common";
+            option java_multiple_files = true;
+
+            message Money {
+                string currency = 1;
+                int64 units = 2;
+            }
+            """;
+
+    private static final String ORDERS_PROTO = """
+            syntax = "proto3";
+            package test.orders;
+            option java_package = "org.example.orders";
+
+            import "common/money.proto";
+            import "google/protobuf/timestamp.proto";
+
+            message Order {
+                enum Status {
+                    NEW = 0;
+                    DONE = 1;
+                }
+                message Item {
+                    string sku = 1;
+                    test.common.Money price = 2;
+                }
+                string id = 1;
+                repeated Item items = 2;
+                map<string, int32> quantities = 3;
+                oneof target {
+                    string email = 4;
+                    string phone = 5;
+                }
+                optional string comment = 6;
+                Status status = 7;
+                google.protobuf.Timestamp created = 8;
+            }
+
+            service OrderService {
+                rpc GetOrder (Order) returns (Order);
+                rpc ListOrders (Order) returns (stream Order);
+                rpc Upload (stream Order) returns (Order);
+                rpc Chat (stream Order) returns (stream Order);
+            }
+            """;
+
+    private ProtobufDescriptorBuilder descriptorBuilder;
+    private InMemoryGrpcSourceGenerator sourceGenerator;
+
+    @BeforeEach
+    void setUp() {
+        descriptorBuilder = new ProtobufDescriptorBuilder();
+        sourceGenerator = new InMemoryGrpcSourceGenerator();
+    }
+
+    @Test
+    void testDescriptorsAreBuiltFromSources() throws Exception {
+        Map<String, Descriptors.FileDescriptor> files = descriptorBuilder.build(sources());
+
+        assertEquals(List.of("common/money.proto", "orders.proto"), List.copyOf(files.keySet()));
+        Descriptors.Descriptor order = files.get("orders.proto").findMessageTypeByName("Order");
+        assertEquals(Descriptors.FieldDescriptor.Type.MESSAGE, order.findFieldByName("items").getType());
+        assertEquals("test.common.Money",
+                order.findNestedTypeByName("Item").findFieldByName("price").getMessageType().getFullName());
+        assertTrue(order.findFieldByName("quantities").isMapField());
+        assertEquals("target", order.findFieldByName("phone").getContainingOneof().getName());
+        assertTrue(order.findFieldByName("comment").hasPresence());
+        assertFalse(order.findFieldByName("id").hasPresence());
+        assertEquals(Descriptors.FieldDescriptor.Type.ENUM, order.findFieldByName("status").getType());
+        assertEquals("google.protobuf.Timestamp", order.findFieldByName("created").getMessageType().getFullName());
+        assertEquals(
+                List.of("id", "items", "quantities", "email", "phone", "comment", "status", "created"),
+                order.getFields().stream().map(Descriptors.FieldDescriptor::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testReservedDeclarationsAndExtensionRangesAreMapped() throws Exception {
+        String proto = """
+                syntax = "proto2";
+                package test.legacy;
+
+                message Legacy {
+                    option deprecated = true;
+                    reserved 2, 4 to 6;
+                    reserved "old_name";
+                    extensions 100 to max;
+                    optional string name = 1;
+                }
+
+                enum Kind {
+                    reserved 3, 10 to max;
+                    reserved "RETIRED";
+                    UNKNOWN = 0;
+                }
+                """;
+        Descriptors.FileDescriptor file = descriptorBuilder.build(
+                List.of(SpecificationSource.builder().name("legacy.proto").source(proto).build())).get("legacy.proto");
+
+        Descriptors.Descriptor legacy = file.findMessageTypeByName("Legacy");
+        assertTrue(legacy.isReservedNumber(5));
+        assertFalse(legacy.isReservedNumber(7));
+        assertTrue(legacy.isReservedName("old_name"));
+        assertTrue(legacy.isExtensionNumber(536_870_911));
+        assertFalse(legacy.isExtensionNumber(99));
+        assertTrue(legacy.getOptions().getDeprecated());
+
+        DescriptorProtos.EnumDescriptorProto kind = file.findEnumTypeByName("Kind").toProto();
+        assertEquals(List.of(3, 10), kind.getReservedRangeList().stream()
+                .map(DescriptorProtos.EnumDescriptorProto.EnumReservedRange::getStart).collect(Collectors.toList()));
+        assertEquals(Integer.MAX_VALUE, kind.getReservedRange(1).getEnd());
+        assertEquals(List.of("RETIRED"), kind.getReservedNameList());
+    }
+
+    @Test
+    void testUnsupportedFeaturesAreRejected() {
+        String proto = """
+                syntax = "proto2";
+                package test.legacy;
+
+                import "google/protobuf/descriptor.proto";
+
+                extend google.protobuf.MessageOptions {
+                    optional string table = 50000;
+                }
+
+                message Legacy {
+                    option (table) = "legacy";
+                    optional string name = 1;
+                }
+                """;
+        List<SpecificationSource> legacySources =
+                List.of(SpecificationSource.builder().name("legacy.proto").source(proto).build());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> descriptorBuilder.build(legacySources));
+        assertTrue(exception.getMessage().contains("legacy.proto"));
+        assertTrue(exception.getMessage().contains("extensions"));
+        assertTrue(exception.getMessage().contains("custom options of message Legacy"));
+    }
+
+    @Test
+    void testGeneratedSourcesCompileAndWork() throws Exception {
+        Map<String, String> sources = sourceGenerator.generate(descriptorBuilder.build(sources()).values());
+        assertEquals(
+                List.of("org.example.common.Money", "org.example.common.MoneyOuterClass",
+                        "org.example.orders.OrderServiceGrpc", "org.example.orders.Orders"),
+                sources.keySet().stream().sorted().collect(Collectors.toList()));
+
+        Map<String, byte[]> classes;
+        try (InMemoryCompiler compiler = new InMemoryCompiler()) {
+            classes = compiler.compile(sources);
+        }
+        ClassLoader classLoader = new BytesClassLoader(classes, getClass().getClassLoader());
+
+        Class<?> order = classLoader.loadClass("org.example.orders.Orders$Order");
+        Descriptors.Descriptor descriptor = (Descriptors.Descriptor) order.getMethod("getDescriptor").invoke(null);
+        DynamicMessage.Builder builder = (DynamicMessage.Builder) order.getMethod("newBuilder").invoke(null);
+        Message message = builder.setField(descriptor.findFieldByName("id"), "42").build();
+        Message parsed = DynamicMessage.parseFrom(descriptor, message.toByteArray());
+        assertEquals("42", parsed.getField(descriptor.findFieldByName("id")));
+
+        Class<?> status = classLoader.loadClass("org.example.orders.Orders$Order$Status");
+        Object done = status.getMethod("forNumber", int.class).invoke(null, 1);
+        assertEquals("DONE", String.valueOf(done));
+
+        Class<?> grpc = classLoader.loadClass("org.example.orders.OrderServiceGrpc");
+        io.grpc.MethodDescriptor<?, ?> method = (io.grpc.MethodDescriptor<?, ?>) grpc.getMethod("getChatMethod").invoke(null);
+        assertEquals("test.orders.OrderService/Chat", method.getFullMethodName());
+        assertEquals(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING, method.getType());
+        assertNotNull(grpc.getMethod("newBlockingStub", io.grpc.Channel.class));
+    }
+
+    private static List<SpecificationSource> sources() {
+        return List.of(
+                SpecificationSource.builder().name("common/money.proto").source(COMMON_PROTO).build(),
+                SpecificationSource.builder().name("orders.proto").source(ORDERS_PROTO).build()
+        );
+    }
+
+    private static class BytesClassLoader extends ClassLoader {
+        private final Map<String, byte[]> classes;
+
+        BytesClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get("/" + name.replace('.', '/') + ".class");
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.catalog.util.paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteIndexTest {
+    private static final Set<HttpMethod> GET = Set.of(HttpMethod.GET);
+
+    private RouteIndex<String> routeIndex;
+
+    @BeforeEach
+    void setUp() {
+        routeIndex = new RouteIndex<>();
+    }
+
+    @Test
+    void testIntersectionMatchesPathIntersectionChecker() {
+        assertFalse(intersects("/foo", "/foo/bar"));
+        assertTrue(intersects("/foo/bar", "foo/bar"));
+        assertFalse(intersects("/foo/bar", "/foo/{bar}"));
+        assertTrue(intersects("/foo/{baz}", "/foo/{bar}"));
+        assertFalse(intersects("/foo/{bar}", "/foo/bar-{baz}"));
+        assertFalse(intersects("/foo/bar", "/foo/bar-{baz}"));
+        assertFalse(intersects("{foo}-bar", "{foo}-bz"));
+    }
+
+    @Test
+    void testMethods() {
+        routeIndex.add("get", "/foo/{id}", Set.of(HttpMethod.GET, HttpMethod.HEAD));
+        routeIndex.add("post", "/foo/{key}", Set.of(HttpMethod.POST));
+
+        assertEquals(Set.of("get"), routeIndex.findIntersecting("/foo/{x}", Set.of(HttpMethod.HEAD)));
+        assertEquals(Set.of("get", "post"), routeIndex.findIntersecting("/foo/{x}", Set.of(HttpMethod.GET, HttpMethod.POST)));
+        assertFalse(routeIndex.intersectsAny("/foo/{x}", Set.of(HttpMethod.DELETE)));
+    }
+
+    @Test
+    void testIncrementalUpdates() {
+        routeIndex.add("first", "/foo/bar", GET);
+        routeIndex.add("second", "/foo/bar", GET);
+        routeIndex.add("third", "/foo/bar/baz", GET);
+
+        assertEquals(Set.of("first", "second"), routeIndex.findIntersecting("/foo/bar", GET));
+
+        assertTrue(routeIndex.remove("first"));
+        assertFalse(routeIndex.remove("first"));
+        assertEquals(Set.of("second"), routeIndex.findIntersecting("/foo/bar", GET));
+
+        routeIndex.add("second", "/foo/{id}", GET);
+        assertFalse(routeIndex.intersectsAny("/foo/bar", GET));
+        assertEquals(Set.of("second"), routeIndex.findIntersecting("/foo/{name}", GET));
+        assertEquals(Set.of("third"), routeIndex.findIntersecting("/foo/bar/baz", GET));
+        assertEquals(2, routeIndex.size());
+    }
+
+    private boolean intersects(String registeredPath, String path) {
+        routeIndex.clear();
+        routeIndex.add(registeredPath, registeredPath, GET);
+        boolean result = routeIndex.intersectsAny(path, GET);
+        assertEquals(result, !routeIndex.findIntersecting(path, GET).isEmpty());
+        return result;
+    }
+}